@@ -3,20 +3,28 @@ package com.project.Backend.Auth;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -27,15 +35,22 @@ import com.project.Backend.User.ReqDTO.SignupRequest;
 import com.project.Backend.User.ResponseDTO.JwtResponse;
 import com.project.Backend.User.ResponseDTO.MessageResponse;
 import com.project.Backend.User.UserRepository;
+import com.project.Backend.Auth.security.CurrentUser;
+import com.project.Backend.Auth.security.PasswordHashingExecutor;
 import com.project.Backend.Auth.security.jwt.JwtUtils;
+import com.project.Backend.Auth.security.revocation.TokenRevocationService;
+import com.project.Backend.Auth.security.services.TokenVersionService;
 import com.project.Backend.Auth.security.services.UserDetailsImpl;
+import com.project.Backend.Auth.security.services.UserDetailsServiceImpl;
+
+import io.jsonwebtoken.Claims;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
     @Autowired
-    AuthenticationManager authenticationManager;
+    UserDetailsServiceImpl userDetailsService;
 
     @Autowired
     UserRepository userRepository;
@@ -46,16 +61,56 @@ public class AuthController {
     @Autowired
     JwtUtils jwtUtils;
 
+    @Autowired
+    PasswordHashingExecutor passwordHashingExecutor;
+
+    @Autowired
+    TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    TokenVersionService tokenVersionService;
+
+    // Runs the account write after hashing, so Mongo latency never holds a hashing thread.
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    Executor ioExecutor;
+
+    // Compared against when the account does not exist, so unknown emails cost the same BCrypt time.
+    private String unknownUserHash;
+
+    @PostConstruct
+    void init() {
+        unknownUserHash = encoder.encode(UUID.randomUUID().toString());
+    }
+
     @PostMapping("/signin")
-    public ResponseEntity<?> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
+    public CompletableFuture<ResponseEntity<?>> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
+        // The account lookup runs here; only the BCrypt comparison goes to the hashing pool.
+        UserDetailsImpl userDetails = findPrincipal(loginRequest.email());
+        String passwordHash = userDetails != null ? userDetails.getPassword() : unknownUserHash;
+        return passwordHashingExecutor.submit(() -> encoder.matches(loginRequest.password(), passwordHash))
+                .thenApply(matches -> {
+                    if (userDetails == null || !matches) {
+                        throw new BadCredentialsException("Bad credentials");
+                    }
+                    return signIn(loginRequest, userDetails);
+                });
+    }
 
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(loginRequest.email(), loginRequest.password()));
+    private UserDetailsImpl findPrincipal(String email) {
+        try {
+            return (UserDetailsImpl) userDetailsService.loadUserByUsername(email);
+        } catch (UsernameNotFoundException ex) {
+            return null;
+        }
+    }
+
+    private ResponseEntity<?> signIn(LoginRequest loginRequest, UserDetailsImpl userDetails) {
+        Authentication authentication = UsernamePasswordAuthenticationToken.authenticated(
+                userDetails, null, userDetails.getAuthorities());
 
-        SecurityContextHolder.getContext().setAuthentication(authentication);
         String jwt = jwtUtils.generateJwtToken(authentication);
 
-        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
         List<String> roles = userDetails.getAuthorities().stream()
                 .map(item -> item.getAuthority())
                 .collect(Collectors.toList());
@@ -78,23 +133,28 @@ public class AuthController {
     }
 
     @PostMapping("/signup")
-    public ResponseEntity<?> registerUser(@Valid @RequestBody SignupRequest signUpRequest) {
+    public CompletableFuture<ResponseEntity<?>> registerUser(@Valid @RequestBody SignupRequest signUpRequest) {
         if (userRepository.existsByUsername(signUpRequest.username())) {
-            return ResponseEntity
+            return CompletableFuture.completedFuture(ResponseEntity
                     .badRequest()
-                    .body(new MessageResponse("Error: Username is already taken!"));
+                    .body(new MessageResponse("Error: Username is already taken!")));
         }
 
         if (userRepository.existsByEmail(signUpRequest.email())) {
-            return ResponseEntity
+            return CompletableFuture.completedFuture(ResponseEntity
                     .badRequest()
-                    .body(new MessageResponse("Error: Email is already in use!"));
+                    .body(new MessageResponse("Error: Email is already in use!")));
         }
 
+        return passwordHashingExecutor.submit(() -> encoder.encode(signUpRequest.password()))
+                .thenApplyAsync(hash -> createUser(signUpRequest, hash), ioExecutor);
+    }
+
+    private ResponseEntity<?> createUser(SignupRequest signUpRequest, String passwordHash) {
         // Create new user's account
         User user = new User(signUpRequest.username(),
                 signUpRequest.email(),
-                encoder.encode(signUpRequest.password()));
+                passwordHash);
 
         Set<String> strRoles = signUpRequest.roles();
         Set<Role> roles = new HashSet<>();
@@ -103,20 +163,50 @@ public class AuthController {
             Role userRole = Role.ROLE_STUDENT;
             roles.add(userRole);
         } else {
-            strRoles.forEach(roleStr -> {
-                Role mapped = switch (roleStr) {
-                    case "admin" -> Role.ROLE_ADMIN;
-                    case "teacher" -> Role.ROLE_TEACHER;
-                    case "student" -> Role.ROLE_STUDENT;
-                    default -> Role.ROLE_STUDENT;
-                };
-                roles.add(mapped);
-            });
+            strRoles.forEach(roleStr -> roles.add(Role.fromRequestValue(roleStr)));
         }
 
         user.setRoles(roles);
-        userRepository.save(user);
+        try {
+            userRepository.save(user);
+        } catch (DuplicateKeyException e) {
+            // Lost a race against another sign-up or an import.
+            return ResponseEntity
+                    .badRequest()
+                    .body(new MessageResponse("Error: Username or email is already taken!"));
+        }
 
         return ResponseEntity.ok(new MessageResponse("User registered successfully!"));
     }
+
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@RequestHeader(value = "Authorization", required = false) String authorization) {
+        if (!StringUtils.hasText(authorization) || !authorization.startsWith("Bearer ")) {
+            return ResponseEntity.badRequest().body(new MessageResponse("Error: Missing token"));
+        }
+        Claims claims = jwtUtils.getVerifiedClaims(authorization.substring(7));
+        if (claims == null) {
+            return ResponseEntity.badRequest().body(new MessageResponse("Error: Invalid token"));
+        }
+        String userId = claims.get(JwtUtils.CLAIM_USER_ID, String.class);
+        if (claims.getId() == null) {
+            // Tokens issued before per-token ids can only be revoked all at once.
+            if (userId == null) {
+                return ResponseEntity.badRequest().body(new MessageResponse("Error: Token cannot be revoked"));
+            }
+            tokenVersionService.bump(userId);
+        } else {
+            tokenRevocationService.revoke(claims, userId);
+        }
+        return ResponseEntity.ok(new MessageResponse("Signed out successfully"));
+    }
+
+    @PostMapping("/logout-all")
+    public ResponseEntity<?> logoutEverywhere(@CurrentUser String userId) {
+        if (userId == null) {
+            return ResponseEntity.status(401).body(new MessageResponse("Unauthorized"));
+        }
+        tokenVersionService.bump(userId);
+        return ResponseEntity.ok(new MessageResponse("Signed out of all sessions"));
+    }
 }
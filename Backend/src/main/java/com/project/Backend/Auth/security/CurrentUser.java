@@ -0,0 +1,19 @@
+package com.project.Backend.Auth.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Injects the authenticated caller into a controller method parameter.
+ * Supported parameter types are {@code String} (the user id) and
+ * {@link com.project.Backend.Auth.security.services.UserDetailsImpl}.
+ * Resolves to {@code null} when the request is not authenticated.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+}
@@ -0,0 +1,145 @@
+package com.project.Backend.Auth.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import com.project.Backend.Auth.security.jwt.JwtUtils;
+import com.project.Backend.Auth.security.revocation.TokenRevocationService;
+import com.project.Backend.Auth.security.services.TokenVersionService;
+import com.project.Backend.Auth.security.services.UserDetailsImpl;
+import com.project.Backend.Auth.security.services.UserDetailsServiceImpl;
+import com.project.Backend.Metrics.MetricsSource;
+
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Resolves {@link CurrentUser} parameters. The principal is normally taken
+ * from the security context set by AuthTokenFilter; only when that is
+ * missing does it fall back to the bearer token. Either way the result is
+ * memoized on the request so it is resolved at most once.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver, MetricsSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(CurrentUserArgumentResolver.class);
+
+    private static final String PRINCIPAL_ATTRIBUTE = CurrentUserArgumentResolver.class.getName() + ".PRINCIPAL";
+    private static final Object ANONYMOUS = new Object();
+
+    private final JwtUtils jwtUtils;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final TokenVersionService tokenVersionService;
+    private final TokenRevocationService tokenRevocationService;
+
+    private final LongAdder contextHits = new LongAdder();
+    private final LongAdder tokenFallbacks = new LongAdder();
+    private final LongAdder unresolved = new LongAdder();
+
+    @Override
+    public boolean supportsParameter(@NonNull MethodParameter parameter) {
+        if (!parameter.hasParameterAnnotation(CurrentUser.class)) {
+            return false;
+        }
+        Class<?> type = parameter.getParameterType();
+        return type == String.class || type == UserDetailsImpl.class;
+    }
+
+    @Override
+    public Object resolveArgument(@NonNull MethodParameter parameter, ModelAndViewContainer mavContainer,
+            @NonNull NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        UserDetailsImpl principal = currentPrincipal(webRequest);
+        if (parameter.getParameterType() == String.class) {
+            return principal != null ? principal.getId() : null;
+        }
+        return principal;
+    }
+
+    private UserDetailsImpl currentPrincipal(NativeWebRequest webRequest) {
+        Object memo = webRequest.getAttribute(PRINCIPAL_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo != null) {
+            return memo == ANONYMOUS ? null : (UserDetailsImpl) memo;
+        }
+        UserDetailsImpl principal = fromSecurityContext();
+        if (principal != null) {
+            contextHits.increment();
+        } else {
+            principal = fromBearerToken(webRequest);
+            if (principal == null) {
+                unresolved.increment();
+            }
+        }
+        webRequest.setAttribute(PRINCIPAL_ATTRIBUTE, principal != null ? principal : ANONYMOUS,
+                RequestAttributes.SCOPE_REQUEST);
+        return principal;
+    }
+
+    private UserDetailsImpl fromSecurityContext() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof UserDetailsImpl principal) {
+            return principal;
+        }
+        return null;
+    }
+
+    private UserDetailsImpl fromBearerToken(NativeWebRequest webRequest) {
+        String header = webRequest.getHeader("Authorization");
+        if (!StringUtils.hasText(header) || !header.startsWith("Bearer ")) {
+            return null;
+        }
+        tokenFallbacks.increment();
+        try {
+            Claims claims = jwtUtils.getVerifiedClaims(header.substring(7));
+            if (claims == null || tokenRevocationService.isRevoked(claims)) {
+                return null;
+            }
+            UserDetailsImpl principal = jwtUtils.getPrincipalFromClaims(claims);
+            Long tokenVersion = jwtUtils.getTokenVersion(claims);
+            if (principal != null) {
+                if (tokenVersion != null && !tokenVersionService.isCurrent(principal.getId(), tokenVersion)) {
+                    return null;
+                }
+                return principal;
+            }
+            principal = (UserDetailsImpl) userDetailsService.loadUserByUsername(claims.getSubject());
+            // A loaded principal carries the stored version; no second lookup needed.
+            if (tokenVersion != null && tokenVersion < principal.getTokenVersion()) {
+                return null;
+            }
+            return principal;
+        } catch (Exception e) {
+            logger.warn("Cannot resolve current user from bearer token: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public String metricsName() {
+        return "currentUserResolver";
+    }
+
+    @Override
+    public Map<String, Object> metrics() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("securityContextHits", contextHits.sum());
+        out.put("tokenFallbacks", tokenFallbacks.sum());
+        out.put("unresolved", unresolved.sum());
+        return out;
+    }
+}
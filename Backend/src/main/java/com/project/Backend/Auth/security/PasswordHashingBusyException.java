@@ -0,0 +1,19 @@
+package com.project.Backend.Auth.security;
+
+/**
+ * Thrown when the password hashing queue is full. Mapped to 503 with a
+ * Retry-After header by the global exception handler.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingBusyException(long retryAfterSeconds) {
+        super("Too many sign-in requests, please retry shortly");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,113 @@
+package com.project.Backend.Auth.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.project.Backend.Metrics.MetricsSource;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Dedicated, CPU-sized pool for BCrypt work so sign-in and sign-up storms
+ * cannot occupy every Tomcat worker. The queue is bounded; once it is full,
+ * submissions fail fast with {@link PasswordHashingBusyException}.
+ */
+@Component
+public class PasswordHashingExecutor implements MetricsSource {
+
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder taskNanos = new LongAdder();
+    private final LongAccumulator maxTaskNanos = new LongAccumulator(Long::max, 0);
+
+    public PasswordHashingExecutor(
+            @Value("${competition.app.passwordHashThreads:0}") int threads,
+            @Value("${competition.app.passwordHashQueueCapacity:256}") int queueCapacity,
+            @Value("${competition.app.passwordHashRetryAfterSeconds:2}") long retryAfterSeconds) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(() -> timed(task), executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        }
+    }
+
+    public int getParallelism() {
+        return executor.getMaximumPoolSize();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public String metricsName() {
+        return "passwordHashing";
+    }
+
+    @Override
+    public Map<String, Object> metrics() {
+        long count = completed.sum();
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("threads", executor.getMaximumPoolSize());
+        out.put("active", executor.getActiveCount());
+        out.put("queueDepth", executor.getQueue().size());
+        out.put("queueRemainingCapacity", executor.getQueue().remainingCapacity());
+        out.put("completed", count);
+        out.put("rejected", rejected.sum());
+        out.put("avgTaskMillis", count == 0 ? 0.0 : taskNanos.sum() / (double) count / 1_000_000);
+        out.put("maxTaskMillis", TimeUnit.NANOSECONDS.toMillis(maxTaskNanos.get()));
+        return out;
+    }
+
+    private <T> T timed(Supplier<T> task) {
+        long start = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            completed.increment();
+            taskNanos.add(elapsed);
+            maxTaskNanos.accumulate(elapsed);
+        }
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
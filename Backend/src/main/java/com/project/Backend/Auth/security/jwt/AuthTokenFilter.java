@@ -1,6 +1,10 @@
 package com.project.Backend.Auth.security.jwt;
 
+import com.project.Backend.Auth.security.revocation.TokenRevocationService;
+import com.project.Backend.Auth.security.services.TokenVersionService;
+import com.project.Backend.Auth.security.services.UserDetailsImpl;
 import com.project.Backend.Auth.security.services.UserDetailsServiceImpl;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,7 +14,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.util.StringUtils;
@@ -25,6 +28,12 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
+    @Autowired
+    private TokenVersionService tokenVersionService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
     private static final Logger logger = LoggerFactory.getLogger(AuthTokenFilter.class);
 
     @Override
@@ -32,15 +41,26 @@ public class AuthTokenFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String username = jwtUtils.getUserNameFromJwtToken(jwt);
+            Claims claims = jwt != null ? jwtUtils.getVerifiedClaims(jwt) : null;
+            if (claims != null && tokenRevocationService.isRevoked(claims)) {
+                logger.warn("JWT {} has been revoked", claims.getId());
+            } else if (claims != null) {
+                String username = claims.getSubject();
                 try {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities());
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    UserDetailsImpl fromClaims = jwtUtils.getPrincipalFromClaims(claims);
+                    UserDetailsImpl userDetails = fromClaims != null
+                            ? fromClaims
+                            : (UserDetailsImpl) userDetailsService.loadUserByUsername(username);
+                    Long tokenVersion = jwtUtils.getTokenVersion(claims);
+                    if (tokenVersion != null && !isCurrent(userDetails, tokenVersion, fromClaims != null)) {
+                        logger.warn("JWT version {} is stale for user {}", tokenVersion, userDetails.getId());
+                    } else {
+                        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                                userDetails, null, userDetails.getAuthorities());
+                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                    }
                 } catch (UsernameNotFoundException ex) {
                     logger.warn("JWT subject not found: {}", username);
                 }
@@ -52,6 +72,16 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private boolean isCurrent(UserDetailsImpl userDetails, long tokenVersion, boolean fromClaims) {
+        // A principal built from claims only knows the token's own version, so
+        // the stored one comes from the version cache. A loaded principal
+        // already carries the stored version and is evicted on every bump.
+        if (fromClaims) {
+            return tokenVersionService.isCurrent(userDetails.getId(), tokenVersion);
+        }
+        return tokenVersion >= userDetails.getTokenVersion();
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
 
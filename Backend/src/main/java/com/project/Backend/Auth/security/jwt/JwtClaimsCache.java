@@ -0,0 +1,69 @@
+package com.project.Backend.Auth.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.project.Backend.Cache.BoundedCache;
+import com.project.Backend.Metrics.MetricsSource;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Verified claims keyed by a SHA-256 digest of the raw token, so a bearer
+ * token that was already checked skips signature verification and JSON
+ * parsing. Entries never outlive the token's own expiry.
+ */
+@Component
+public class JwtClaimsCache implements MetricsSource {
+
+    private final BoundedCache<String, Claims> cache;
+
+    public JwtClaimsCache(
+            @Value("${competition.app.jwtClaimsCacheSize:10000}") int maximumSize,
+            @Value("${competition.app.jwtClaimsCacheTtlMs:300000}") long ttlMillis) {
+        this.cache = new BoundedCache<>(maximumSize, ttlMillis);
+    }
+
+    public Claims get(String token) {
+        return cache.getIfPresent(digest(token));
+    }
+
+    public void put(String token, Claims claims) {
+        Date expiration = claims.getExpiration();
+        long maxAge = expiration != null
+                ? expiration.getTime() - System.currentTimeMillis()
+                : Long.MAX_VALUE;
+        cache.put(digest(token), claims, maxAge);
+    }
+
+    public void invalidate(String token) {
+        cache.invalidate(digest(token));
+    }
+
+    @Override
+    public String metricsName() {
+        return "jwtClaimsCache";
+    }
+
+    @Override
+    public Map<String, Object> metrics() {
+        return cache.stats();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
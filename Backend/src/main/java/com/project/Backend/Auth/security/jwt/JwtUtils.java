@@ -4,35 +4,104 @@ import com.project.Backend.Auth.security.services.UserDetailsImpl;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
 
 @Component
 public class JwtUtils {
     private static final Logger logger = LoggerFactory.getLogger(JwtUtils.class);
 
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_USERNAME = "username";
+    public static final String CLAIM_ROLES = "roles";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
     @Value("${competition.app.jwtSecret:bezKoderSecretKeyForCompetitionManagementSystem12345678901234567890}")
     private String jwtSecret;
 
     @Value("${competition.app.jwtExpirationMs:86400000}")
     private int jwtExpirationMs;
 
+    // When enabled, tokens also carry username and roles so AuthTokenFilter
+    // can authenticate without loading the user.
+    @Value("${competition.app.jwtStateless:false}")
+    private boolean statelessTokens;
+
+    @Autowired
+    private JwtClaimsCache claimsCache;
+
+    private Key signingKey;
+
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        signingKey = key();
+        parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+    }
+
     public String generateJwtToken(Authentication authentication) {
 
         UserDetailsImpl userPrincipal = (UserDetailsImpl) authentication.getPrincipal();
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject((userPrincipal.getEmail()))
+                .setId(UUID.randomUUID().toString())
+                .claim(CLAIM_USER_ID, userPrincipal.getId())
+                .claim(CLAIM_TOKEN_VERSION, userPrincipal.getTokenVersion())
                 .setIssuedAt(new Date())
-                .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(key(), SignatureAlgorithm.HS256)
-                .compact();
+                .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs));
+
+        if (statelessTokens) {
+            List<String> roles = userPrincipal.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .toList();
+            builder.claim(CLAIM_USERNAME, userPrincipal.getUsername())
+                    .claim(CLAIM_ROLES, roles);
+        }
+
+        return builder.signWith(signingKey, SignatureAlgorithm.HS256).compact();
+    }
+
+    /**
+     * Builds the principal straight from a stateless token's claims, or
+     * returns {@code null} if the token was issued without them.
+     */
+    public UserDetailsImpl getPrincipalFromClaims(Claims claims) {
+        String userId = claims.get(CLAIM_USER_ID, String.class);
+        Object roles = claims.get(CLAIM_ROLES);
+        if (userId == null || !(roles instanceof List<?> roleList)) {
+            return null;
+        }
+        List<GrantedAuthority> authorities = roleList.stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(String.valueOf(role)))
+                .toList();
+        Long tokenVersion = getTokenVersion(claims);
+        return new UserDetailsImpl(
+                userId,
+                claims.get(CLAIM_USERNAME, String.class),
+                claims.getSubject(),
+                null,
+                authorities,
+                tokenVersion != null ? tokenVersion : 0L);
+    }
+
+    public Long getTokenVersion(Claims claims) {
+        Object version = claims.get(CLAIM_TOKEN_VERSION);
+        return version instanceof Number number ? number.longValue() : null;
     }
     
     private Key key() {
@@ -45,15 +114,24 @@ public class JwtUtils {
         }
     }
 
-    public String getUserNameFromJwtToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key()).build()
-               .parseClaimsJws(token).getBody().getSubject();
-    }
-
-    public boolean validateJwtToken(String authToken) {
+    /**
+     * Verifies the token signature and expiry once and returns its claims, or
+     * {@code null} if the token is not valid. Results are cached per token.
+     */
+    public Claims getVerifiedClaims(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        Claims cached = claimsCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
         try {
-            Jwts.parserBuilder().setSigningKey(key()).build().parse(authToken);
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            claimsCache.put(token, claims);
+            return claims;
+        } catch (SignatureException e) {
+            logger.error("Invalid JWT signature: {}", e.getMessage());
         } catch (MalformedJwtException e) {
             logger.error("Invalid JWT token: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -64,6 +142,15 @@ public class JwtUtils {
             logger.error("JWT claims string is empty: {}", e.getMessage());
         }
 
-        return false;
+        return null;
+    }
+
+    public String getUserNameFromJwtToken(String token) {
+        Claims claims = getVerifiedClaims(token);
+        return claims != null ? claims.getSubject() : null;
+    }
+
+    public boolean validateJwtToken(String authToken) {
+        return getVerifiedClaims(authToken) != null;
     }
 }
@@ -0,0 +1,57 @@
+package com.project.Backend.Auth.security.ratelimit;
+
+/**
+ * Allocation-free matcher for the small path patterns used by rate limit
+ * rules: literal segments, '*' for exactly one segment and a trailing '**'
+ * for any remainder (including none).
+ */
+final class PathMatcher {
+
+    private final String[] segments;
+    private final boolean matchesRemainder;
+
+    PathMatcher(String pattern) {
+        String trimmed = pattern.startsWith("/") ? pattern.substring(1) : pattern;
+        String[] parts = trimmed.isEmpty() ? new String[0] : trimmed.split("/");
+        boolean remainder = parts.length > 0 && parts[parts.length - 1].equals("**");
+        if (remainder) {
+            String[] withoutTail = new String[parts.length - 1];
+            System.arraycopy(parts, 0, withoutTail, 0, withoutTail.length);
+            parts = withoutTail;
+        }
+        for (String part : parts) {
+            if (part.contains("**")) {
+                throw new IllegalArgumentException("'**' is only supported at the end of " + pattern);
+            }
+        }
+        this.segments = parts;
+        this.matchesRemainder = remainder;
+    }
+
+    boolean matches(String path) {
+        int position = path.startsWith("/") ? 1 : 0;
+        int length = path.length();
+        for (String segment : segments) {
+            if (position > length) {
+                return false;
+            }
+            int end = path.indexOf('/', position);
+            if (end < 0) {
+                end = length;
+            }
+            if (end == position) {
+                return false;
+            }
+            if (!segment.equals("*")
+                    && (end - position != segment.length() || !path.regionMatches(position, segment, 0, end - position))) {
+                return false;
+            }
+            position = end + 1;
+        }
+        if (matchesRemainder) {
+            return true;
+        }
+        // Exact match: nothing left, or a single trailing slash.
+        return position >= length;
+    }
+}
@@ -0,0 +1,159 @@
+package com.project.Backend.Auth.security.ratelimit;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.project.Backend.Auth.security.jwt.JwtUtils;
+import com.project.Backend.Metrics.MetricsSource;
+
+import io.jsonwebtoken.Claims;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Throttles the routes configured in {@link RateLimitProperties}. Runs ahead
+ * of AuthTokenFilter on every request, so the hot path avoids allocation:
+ * rules are matched against the raw URI, client keys are hashed in place
+ * and the 429 body is serialized once.
+ *
+ * USER keys are the verified user id. Claims come from the JWT claims cache
+ * that AuthTokenFilter fills anyway, so re-signing in does not reset the
+ * bucket, and a token that does not verify falls back to the client IP.
+ */
+public class RateLimitFilter extends OncePerRequestFilter implements MetricsSource {
+
+    private static final byte[] TOO_MANY_REQUESTS_BODY =
+            "{\"message\":\"Error: Too many requests, please retry later\"}".getBytes(StandardCharsets.UTF_8);
+
+    private record CompiledRule(
+            PathMatcher matcher,
+            Set<String> methods,
+            RateLimitProperties.KeyType key,
+            StripedRateLimiter limiter) {
+    }
+
+    private final JwtUtils jwtUtils;
+    private final boolean enabled;
+    private final boolean trustForwardedFor;
+    private final CompiledRule[] rules;
+
+    public RateLimitFilter(RateLimitProperties properties, JwtUtils jwtUtils) {
+        this.jwtUtils = jwtUtils;
+        this.enabled = properties.isEnabled();
+        this.trustForwardedFor = properties.isTrustForwardedFor();
+        this.rules = properties.getRules().stream()
+                .map(rule -> new CompiledRule(
+                        new PathMatcher(rule.getPattern()),
+                        rule.getMethods() == null ? Set.of()
+                                : rule.getMethods().stream()
+                                        .map(m -> m.toUpperCase(Locale.ROOT))
+                                        .collect(Collectors.toUnmodifiableSet()),
+                        rule.getKey(),
+                        new StripedRateLimiter(rule.getName(), properties.getStripes(),
+                                rule.getCapacity(), rule.getRefillPerSecond())))
+                .toArray(CompiledRule[]::new);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || rules.length == 0;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String method = request.getMethod();
+        String path = request.getRequestURI();
+        for (CompiledRule rule : rules) {
+            if ((!rule.methods().isEmpty() && !rule.methods().contains(method)) || !rule.matcher().matches(path)) {
+                continue;
+            }
+            long waitNanos = rule.limiter().tryAcquire(keyHash(request, rule.key()));
+            if (waitNanos > 0) {
+                reject(response, waitNanos);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private int keyHash(HttpServletRequest request, RateLimitProperties.KeyType key) {
+        if (key == RateLimitProperties.KeyType.USER) {
+            String authorization = request.getHeader("Authorization");
+            if (authorization != null && authorization.startsWith("Bearer ")) {
+                String userId = verifiedUserId(authorization.substring(7));
+                if (userId != null) {
+                    return userId.hashCode();
+                }
+            }
+        }
+        if (trustForwardedFor) {
+            String forwarded = request.getHeader("X-Forwarded-For");
+            if (forwarded != null && !forwarded.isEmpty()) {
+                int comma = forwarded.indexOf(',');
+                return hashRange(forwarded, comma < 0 ? forwarded.length() : comma);
+            }
+        }
+        return request.getRemoteAddr().hashCode();
+    }
+
+    private String verifiedUserId(String token) {
+        Claims claims = jwtUtils.getVerifiedClaims(token);
+        if (claims == null) {
+            return null;
+        }
+        // Tokens issued before the uid claim only carry the email.
+        String userId = claims.get(JwtUtils.CLAIM_USER_ID, String.class);
+        return userId != null ? userId : claims.getSubject();
+    }
+
+    // String.hashCode over a prefix, without the substring.
+    private static int hashRange(String value, int end) {
+        int h = 0;
+        for (int i = 0; i < end; i++) {
+            char c = value.charAt(i);
+            if (c != ' ') {
+                h = 31 * h + c;
+            }
+        }
+        return h;
+    }
+
+    private static void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(429);
+        response.setHeader("Retry-After", Long.toString(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(TOO_MANY_REQUESTS_BODY.length);
+        response.getOutputStream().write(TOO_MANY_REQUESTS_BODY);
+    }
+
+    @Override
+    public String metricsName() {
+        return "rateLimiter";
+    }
+
+    @Override
+    public Map<String, Object> metrics() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        for (CompiledRule rule : rules) {
+            Map<String, Object> counters = new LinkedHashMap<>();
+            counters.put("allowed", rule.limiter().allowed.sum());
+            counters.put("throttled", rule.limiter().throttled.sum());
+            out.put(rule.limiter().name(), counters);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,58 @@
+package com.project.Backend.Auth.security.ratelimit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Rate limit rules, bound from {@code competition.ratelimit.*}. Setting
+ * {@code competition.ratelimit.rules[n]...} replaces the defaults below.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "competition.ratelimit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Buckets per rule; clients hashing to the same stripe share a bucket.
+    private int stripes = 4096;
+
+    // Take the client address from the first X-Forwarded-For entry. Only
+    // enable behind a proxy that overwrites the header.
+    private boolean trustForwardedFor = false;
+
+    private List<Rule> rules = new ArrayList<>(List.of(
+            new Rule("signin", "/api/auth/signin", Set.of("POST"), KeyType.IP, 10, 0.5),
+            new Rule("signup", "/api/auth/signup", Set.of("POST"), KeyType.IP, 5, 0.1),
+            new Rule("submissions", "/competitions/*/submissions/**", Set.of("POST", "PUT"), KeyType.USER, 20, 1)));
+
+    public enum KeyType {
+        IP,
+        // Keyed by the verified user id of the bearer token; requests without
+        // a valid token fall back to the IP.
+        USER
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Rule {
+        private String name;
+        // '*' matches one path segment, a trailing '**' any remainder.
+        private String pattern;
+        // Empty means every method.
+        private Set<String> methods = Set.of();
+        private KeyType key = KeyType.IP;
+        // Burst size.
+        private int capacity;
+        private double refillPerSecond;
+    }
+}
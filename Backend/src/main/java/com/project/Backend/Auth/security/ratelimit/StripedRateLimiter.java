@@ -0,0 +1,74 @@
+package com.project.Backend.Auth.security.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free token buckets for one rule, striped by client key hash.
+ *
+ * Each stripe is a single long holding the GCRA "theoretical arrival time",
+ * which is equivalent to a token bucket of the same capacity and refill rate
+ * but needs only one CAS per request and no separate token count or refill
+ * timestamp.
+ */
+final class StripedRateLimiter {
+
+    private final String name;
+    private final int mask;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLongArray arrivalTimes;
+    // Keeps stored times positive so zero means "never seen".
+    private final long epochNanos = System.nanoTime() - TimeUnit.DAYS.toNanos(1);
+
+    final LongAdder allowed = new LongAdder();
+    final LongAdder throttled = new LongAdder();
+
+    StripedRateLimiter(String name, int stripes, int capacity, double refillPerSecond) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate limit " + name + " needs a positive capacity and refill rate");
+        }
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.name = name;
+        this.mask = size - 1;
+        this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+        this.arrivalTimes = new AtomicLongArray(size);
+    }
+
+    String name() {
+        return name;
+    }
+
+    /**
+     * Takes one token for the key. Returns 0 if allowed, otherwise the number
+     * of nanoseconds until a token becomes available.
+     */
+    long tryAcquire(int keyHash) {
+        int stripe = spread(keyHash) & mask;
+        long now = System.nanoTime() - epochNanos;
+        while (true) {
+            long arrival = arrivalTimes.get(stripe);
+            long next = Math.max(arrival, now) + emissionIntervalNanos;
+            long wait = next - now - burstToleranceNanos;
+            if (wait > 0) {
+                throttled.increment();
+                return wait;
+            }
+            if (arrivalTimes.compareAndSet(stripe, arrival, next)) {
+                allowed.increment();
+                return 0;
+            }
+        }
+    }
+
+    private static int spread(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -0,0 +1,33 @@
+package com.project.Backend.Auth.security.revocation;
+
+import java.util.Date;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A revoked JWT, keyed by its jti. Mongo drops the record once the token
+ * would have expired anyway.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "revoked_tokens")
+public class RevokedToken {
+
+    @Id
+    private String id;
+
+    private String userId;
+
+    @Indexed
+    private Date revokedAt;
+
+    @Indexed(expireAfter = "0s")
+    private Date expiresAt;
+}
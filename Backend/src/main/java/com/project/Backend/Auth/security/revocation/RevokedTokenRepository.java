@@ -0,0 +1,6 @@
+package com.project.Backend.Auth.security.revocation;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface RevokedTokenRepository extends MongoRepository<RevokedToken, String> {
+}
@@ -0,0 +1,201 @@
+package com.project.Backend.Auth.security.revocation;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.project.Backend.Cache.BloomFilter;
+import com.project.Backend.Cache.BoundedCache;
+import com.project.Backend.Metrics.MetricsSource;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Per-token revocation. Revoked token ids are stored in Mongo and mirrored
+ * into an in-memory Bloom filter, so the common case (a token that was never
+ * revoked) is answered without touching the database. Only Bloom positives
+ * fall through to an exact lookup.
+ *
+ * The filter is rebuilt from the collection at startup and periodically (to
+ * drop expired ids), and topped up in between with the ids revoked since the
+ * last refresh. A revocation made on another node therefore takes effect
+ * here within one refresh interval.
+ */
+@Service
+public class TokenRevocationService implements MetricsSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    // Overlap between refreshes to tolerate clock skew between nodes.
+    private static final long REFRESH_OVERLAP_MS = 5_000;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final MongoTemplate mongoTemplate;
+    private final long minimumCapacity;
+    private final double falsePositiveRate;
+
+    // Exact answers for Bloom positives; revocations are cached until the
+    // token expires, misses only briefly.
+    private final BoundedCache<String, Boolean> exactChecks;
+
+    private volatile BloomFilter filter;
+    private volatile long refreshedUpTo;
+
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder bloomPositives = new LongAdder();
+    private final LongAdder confirmedRevoked = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    public TokenRevocationService(
+            RevokedTokenRepository revokedTokenRepository,
+            MongoTemplate mongoTemplate,
+            @Value("${competition.app.revocationFilterCapacity:100000}") long minimumCapacity,
+            @Value("${competition.app.revocationFilterFpp:0.001}") double falsePositiveRate,
+            @Value("${competition.app.revocationRefreshMs:5000}") long refreshMillis) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.minimumCapacity = minimumCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+        this.exactChecks = new BoundedCache<>(10_000, Math.max(refreshMillis, 1_000));
+    }
+
+    public boolean isRevoked(Claims claims) {
+        return claims != null && isRevoked(claims.getId());
+    }
+
+    /**
+     * Tokens issued without a jti cannot be revoked individually; they are
+     * only covered by the per-user token version.
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        checks.increment();
+        BloomFilter current = filter;
+        // Until the first build finishes every check is exact.
+        if (current != null && !current.mightContain(tokenId)) {
+            return false;
+        }
+        bloomPositives.increment();
+        Boolean cached = exactChecks.getIfPresent(tokenId);
+        if (cached != null) {
+            return cached;
+        }
+        boolean revoked = revokedTokenRepository.existsById(tokenId);
+        if (revoked) {
+            confirmedRevoked.increment();
+        } else if (current != null) {
+            falsePositives.increment();
+        }
+        exactChecks.put(tokenId, revoked);
+        return revoked;
+    }
+
+    public void revoke(Claims claims, String userId) {
+        String tokenId = claims.getId();
+        if (tokenId == null) {
+            throw new IllegalArgumentException("Token has no id and cannot be revoked individually");
+        }
+        Date expiresAt = claims.getExpiration();
+        revokedTokenRepository.save(new RevokedToken(tokenId, userId, new Date(), expiresAt));
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(tokenId);
+        }
+        long maxAge = expiresAt != null ? expiresAt.getTime() - System.currentTimeMillis() : Long.MAX_VALUE;
+        exactChecks.put(tokenId, Boolean.TRUE, maxAge);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        rebuild();
+    }
+
+    /**
+     * Replaces the filter with one built from the live (unexpired) ids, sized
+     * for the current count so the false positive rate stays on target.
+     */
+    @Scheduled(
+            fixedDelayString = "${competition.app.revocationRebuildMs:3600000}",
+            initialDelayString = "${competition.app.revocationRebuildMs:3600000}")
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        try {
+            Date now = new Date(started);
+            Query live = Query.query(Criteria.where("expiresAt").gt(now));
+            long count = mongoTemplate.count(live, RevokedToken.class);
+            BloomFilter rebuilt = new BloomFilter(Math.max(minimumCapacity, count * 2), falsePositiveRate);
+
+            live.fields().include("_id");
+            try (Stream<RevokedToken> ids = mongoTemplate.stream(live, RevokedToken.class)) {
+                ids.forEach(token -> rebuilt.put(token.getId()));
+            }
+            filter = rebuilt;
+            // Catch anything revoked while the stream was running.
+            refreshedUpTo = started - REFRESH_OVERLAP_MS;
+            refreshFrom(refreshedUpTo);
+            logger.info("Revocation filter rebuilt with {} ids in {} ms",
+                    rebuilt.entryCount(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            logger.error("Revocation filter rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${competition.app.revocationRefreshMs:5000}")
+    public synchronized void refresh() {
+        if (filter == null) {
+            return;
+        }
+        try {
+            refreshFrom(refreshedUpTo);
+        } catch (Exception e) {
+            logger.warn("Revocation filter refresh failed: {}", e.getMessage());
+        }
+    }
+
+    private void refreshFrom(long since) {
+        long started = System.currentTimeMillis();
+        BloomFilter current = filter;
+        Query recent = Query.query(Criteria.where("revokedAt").gt(new Date(since)));
+        recent.fields().include("_id");
+        for (RevokedToken token : mongoTemplate.find(recent, RevokedToken.class)) {
+            current.put(token.getId());
+            exactChecks.invalidate(token.getId());
+        }
+        refreshedUpTo = started - REFRESH_OVERLAP_MS;
+    }
+
+    @Override
+    public String metricsName() {
+        return "tokenRevocation";
+    }
+
+    @Override
+    public Map<String, Object> metrics() {
+        BloomFilter current = filter;
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("checks", checks.sum());
+        out.put("bloomPositives", bloomPositives.sum());
+        out.put("confirmedRevoked", confirmedRevoked.sum());
+        out.put("falsePositives", falsePositives.sum());
+        out.put("filterEntries", current != null ? current.entryCount() : 0);
+        out.put("filterBits", current != null ? current.bitCount() : 0);
+        out.put("filterHashes", current != null ? current.hashCount() : 0);
+        out.put("exactCheckCache", exactChecks.stats());
+        return out;
+    }
+}
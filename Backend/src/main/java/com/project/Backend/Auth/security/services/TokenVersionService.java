@@ -0,0 +1,95 @@
+package com.project.Backend.Auth.security.services;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import com.project.Backend.Cache.BoundedCache;
+import com.project.Backend.Metrics.MetricsSource;
+import com.project.Backend.User.User;
+import com.project.Backend.User.UserRepository;
+
+/**
+ * Tracks the per-user token version embedded in issued JWTs. Tokens carrying
+ * an older version than the stored one are rejected by AuthTokenFilter.
+ *
+ * Versions are cached per node for a short TTL, so a bump made on another
+ * node takes effect here within that window.
+ */
+@Service
+public class TokenVersionService implements MetricsSource {
+
+    private final UserRepository userRepository;
+    private final MongoTemplate mongoTemplate;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final BoundedCache<String, Long> versions;
+
+    public TokenVersionService(
+            UserRepository userRepository,
+            MongoTemplate mongoTemplate,
+            UserDetailsServiceImpl userDetailsService,
+            @Value("${competition.app.tokenVersionCacheSize:10000}") int maximumSize,
+            @Value("${competition.app.tokenVersionCacheTtlMs:30000}") long ttlMillis) {
+        this.userRepository = userRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.userDetailsService = userDetailsService;
+        this.versions = new BoundedCache<>(maximumSize, ttlMillis);
+    }
+
+    public boolean isCurrent(String userId, long tokenVersion) {
+        return tokenVersion >= currentVersion(userId);
+    }
+
+    public long currentVersion(String userId) {
+        Long cached = versions.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+        // Unknown users get a version no token can satisfy.
+        long version = userRepository.findTokenVersionById(userId)
+                .map(User::getTokenVersion)
+                .orElse(Long.MAX_VALUE);
+        versions.put(userId, version);
+        return version;
+    }
+
+    /**
+     * Invalidates every token issued to the user so far. Call after changing
+     * roles or to force a sign-out.
+     */
+    public long bump(String userId) {
+        User updated = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(userId)),
+                new Update().inc("tokenVersion", 1),
+                FindAndModifyOptions.options().returnNew(true),
+                User.class);
+        if (updated == null) {
+            throw new IllegalArgumentException("User not found");
+        }
+        versions.put(userId, updated.getTokenVersion());
+        userDetailsService.evict(updated.getEmail());
+        return updated.getTokenVersion();
+    }
+
+    public void evict(String userId) {
+        if (userId != null) {
+            versions.invalidate(userId);
+        }
+    }
+
+    @Override
+    public String metricsName() {
+        return "tokenVersionCache";
+    }
+
+    @Override
+    public Map<String, Object> metrics() {
+        return versions.stats();
+    }
+}
@@ -1,25 +1,87 @@
 package com.project.Backend.Auth.security.services;
 
+import com.project.Backend.Cache.BoundedCache;
+import com.project.Backend.Metrics.MetricsSource;
 import com.project.Backend.User.User;
 import com.project.Backend.User.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, MetricsSource {
     @Autowired
     UserRepository userRepository;
 
+    // Built principals keyed by email. Must be evicted whenever the users
+    // document behind an entry is written.
+    private final BoundedCache<String, UserDetailsImpl> principals;
+
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+    private final LongAccumulator maxLoadNanos = new LongAccumulator(Long::max, 0);
+
+    public UserDetailsServiceImpl(
+            @Value("${competition.app.principalCacheSize:10000}") int maximumSize,
+            @Value("${competition.app.principalCacheTtlMs:60000}") long ttlMillis) {
+        this.principals = new BoundedCache<>(maximumSize, ttlMillis);
+    }
+
     @Override
     @Transactional
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        UserDetailsImpl cached = principals.getIfPresent(email);
+        if (cached != null) {
+            return cached;
+        }
+
+        long start = System.nanoTime();
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User Not Found with email: " + email));
+        recordLoad(System.nanoTime() - start);
+
+        UserDetailsImpl principal = UserDetailsImpl.build(user);
+        principals.put(email, principal);
+        return principal;
+    }
+
+    public void evict(String email) {
+        if (email != null) {
+            principals.invalidate(email);
+        }
+    }
+
+    public void evictAll() {
+        principals.invalidateAll();
+    }
+
+    @Override
+    public String metricsName() {
+        return "principalCache";
+    }
+
+    @Override
+    public Map<String, Object> metrics() {
+        Map<String, Object> out = principals.stats();
+        long loads = loadCount.sum();
+        out.put("loads", loads);
+        out.put("avgLoadMillis", loads == 0 ? 0.0 : loadNanos.sum() / (double) loads / 1_000_000);
+        out.put("maxLoadMillis", TimeUnit.NANOSECONDS.toMillis(maxLoadNanos.get()));
+        return out;
+    }
 
-        return UserDetailsImpl.build(user);
+    private void recordLoad(long nanos) {
+        loadCount.increment();
+        loadNanos.add(nanos);
+        maxLoadNanos.accumulate(nanos);
     }
 }
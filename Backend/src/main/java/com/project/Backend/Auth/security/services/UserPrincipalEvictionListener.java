@@ -0,0 +1,34 @@
+package com.project.Backend.Auth.security.services;
+
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+import com.project.Backend.User.User;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Drops cached principals whenever a user document is written, which covers
+ * profile edits, avatar uploads and role changes alike.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserPrincipalEvictionListener extends AbstractMongoEventListener<User> {
+
+    private final UserDetailsServiceImpl userDetailsService;
+    private final TokenVersionService tokenVersionService;
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<User> event) {
+        userDetailsService.evict(event.getSource().getEmail());
+        tokenVersionService.evict(event.getSource().getId());
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<User> event) {
+        // Only the id is known here, not the email key.
+        userDetailsService.evictAll();
+    }
+}
@@ -300,6 +300,11 @@ public class BackendApplication {
                                                 List.of("U-SEED-STU-04"),
                                                 List.of("U-SEED-STU-02"),
                                                 TeamStatus.PENDING));
+                // Teams are versioned: carry over stored versions so re-seeding updates in place
+                teamRepository.findAllById(teams.stream().map(Team::getTeamId).toList())
+                                .forEach(existing -> teams.stream()
+                                                .filter(team -> team.getTeamId().equals(existing.getTeamId()))
+                                                .forEach(team -> team.setVersion(existing.getVersion())));
                 teamRepository.saveAll(teams);
 
                 List<CompetitionRegistration> registrations = List.of(
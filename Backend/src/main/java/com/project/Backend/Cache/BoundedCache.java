@@ -0,0 +1,119 @@
+package com.project.Backend.Cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Small size-bounded, expiry-aware in-process cache.
+ *
+ * Reads are lock-free. When the cache grows past its maximum size, expired
+ * entries are dropped first and then arbitrary entries until it is back to
+ * ~90% of the bound, so eviction is approximate rather than strict LRU and
+ * the sweep cost is amortised over many inserts.
+ */
+public class BoundedCache<K, V> {
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final int maximumSize;
+    private final long ttlNanos;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedCache(int maximumSize, long ttlMillis) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+        this.maximumSize = maximumSize;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    }
+
+    public V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            entries.remove(key, entry);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    public void put(K key, V value) {
+        put(key, value, Long.MAX_VALUE);
+    }
+
+    /**
+     * Stores a value that expires after the shorter of the cache TTL and
+     * {@code maxAgeMillis}.
+     */
+    public void put(K key, V value, long maxAgeMillis) {
+        long ttl = Math.min(ttlNanos, TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxAgeMillis)));
+        if (ttl <= 0) {
+            return;
+        }
+        entries.put(key, new Entry<>(value, System.nanoTime() + ttl));
+        if (entries.size() > maximumSize) {
+            evict();
+        }
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public Map<String, Object> stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("size", entries.size());
+        out.put("maximumSize", maximumSize);
+        out.put("hits", hitCount);
+        out.put("misses", missCount);
+        out.put("hitRatio", total == 0 ? 0.0 : (double) hitCount / total);
+        out.put("evictions", evictions.sum());
+        return out;
+    }
+
+    private void evict() {
+        long now = System.nanoTime();
+        entries.entrySet().removeIf(e -> {
+            boolean expired = e.getValue().isExpired(now);
+            if (expired) {
+                evictions.increment();
+            }
+            return expired;
+        });
+        int lowWaterMark = maximumSize - maximumSize / 10;
+        Iterator<K> keys = entries.keySet().iterator();
+        while (entries.size() > lowWaterMark && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+            evictions.increment();
+        }
+    }
+}
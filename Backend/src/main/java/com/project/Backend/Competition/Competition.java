@@ -3,6 +3,8 @@ package com.project.Backend.Competition;
 import java.time.LocalDateTime;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.AllArgsConstructor;
@@ -11,6 +13,20 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Document(collection = "competitions")
+// Keyset listing (see CompetitionRepositoryCustomImpl): equality filters
+// followed by _id, so the _id sort is read off the index. Each equality field
+// alone has one, and all three category fields together use the compound one;
+// other combinations use one of these and filter the rest. Deadline ranges
+// have no index of their own: a range before _id would force an in-memory
+// sort, so those pages walk _id and filter until the page is full.
+@CompoundIndexes({
+        @CompoundIndex(name = "type_format_participation_id",
+                def = "{ 'competitionType': 1, 'format': 1, 'participationType': 1, '_id': -1 }"),
+        @CompoundIndex(name = "type_id", def = "{ 'competitionType': 1, '_id': -1 }"),
+        @CompoundIndex(name = "format_id", def = "{ 'format': 1, '_id': -1 }"),
+        @CompoundIndex(name = "participation_id", def = "{ 'participationType': 1, '_id': -1 }"),
+        @CompoundIndex(name = "createdBy_id", def = "{ 'createdBy': 1, '_id': -1 }")
+})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -42,5 +58,7 @@ public class Competition {
     private Integer minTeamSize; // team only
     private Integer maxTeamSize; // team only
 
+    private Integer maxParticipants; // optional seat cap: students or teams, by participation type
+
     private String materials; // PDF / link / instructions
 }
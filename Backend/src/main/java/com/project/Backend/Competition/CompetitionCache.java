@@ -0,0 +1,176 @@
+package com.project.Backend.Competition;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.project.Backend.Cache.BoundedCache;
+import com.project.Backend.Metrics.MetricsSource;
+
+/**
+ * Read-through near-cache for competitions, which are read on nearly every
+ * registration, team and submission request but rarely change.
+ *
+ * Concurrent misses for the same id share a single query. Every
+ * invalidation bumps a generation counter, and a load only populates the
+ * cache if no invalidation happened while it was running, so a slow read
+ * can never re-insert data that was already replaced.
+ *
+ * Returned instances are shared between callers and must not be modified.
+ * Writes on other nodes become visible here after the TTL at the latest.
+ */
+@Component
+public class CompetitionCache implements MetricsSource {
+
+    private final CompetitionRepository competitionRepository;
+    private final BoundedCache<String, Optional<Competition>> cache;
+    private final long missingTtlMillis;
+
+    private final ConcurrentHashMap<String, CompletableFuture<Optional<Competition>>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalescedLoads = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public CompetitionCache(
+            CompetitionRepository competitionRepository,
+            @Value("${competition.app.competitionCacheSize:5000}") int maximumSize,
+            @Value("${competition.app.competitionCacheTtlMs:300000}") long ttlMillis,
+            @Value("${competition.app.competitionCacheMissingTtlMs:5000}") long missingTtlMillis) {
+        this.competitionRepository = competitionRepository;
+        this.cache = new BoundedCache<>(maximumSize, ttlMillis);
+        this.missingTtlMillis = missingTtlMillis;
+    }
+
+    public Optional<Competition> findById(String competitionId) {
+        if (competitionId == null) {
+            return Optional.empty();
+        }
+        Optional<Competition> cached = cache.getIfPresent(competitionId);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<Optional<Competition>> mine = new CompletableFuture<>();
+        CompletableFuture<Optional<Competition>> existing = inFlight.putIfAbsent(competitionId, mine);
+        if (existing != null) {
+            coalescedLoads.increment();
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            long startGeneration = generation.get();
+            loads.increment();
+            Optional<Competition> loaded = competitionRepository.findById(competitionId);
+            if (generation.get() == startGeneration) {
+                store(competitionId, loaded);
+            }
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(competitionId, mine);
+        }
+    }
+
+    /**
+     * Returns the competitions that exist among {@code competitionIds},
+     * loading all misses with one query.
+     */
+    public Map<String, Competition> findAllById(Collection<String> competitionIds) {
+        Map<String, Competition> found = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String id : competitionIds) {
+            if (id == null || found.containsKey(id)) {
+                continue;
+            }
+            Optional<Competition> cached = cache.getIfPresent(id);
+            if (cached == null) {
+                misses.add(id);
+            } else {
+                cached.ifPresent(c -> found.put(id, c));
+            }
+        }
+        if (misses.isEmpty()) {
+            return found;
+        }
+        long startGeneration = generation.get();
+        loads.increment();
+        for (Competition competition : competitionRepository.findAllById(misses)) {
+            found.put(competition.getCompetitionId(), competition);
+        }
+        if (generation.get() == startGeneration) {
+            for (String id : misses) {
+                store(id, Optional.ofNullable(found.get(id)));
+            }
+        }
+        return found;
+    }
+
+    public void invalidate(String competitionId) {
+        generation.incrementAndGet();
+        invalidations.increment();
+        cache.invalidate(competitionId);
+        inFlight.remove(competitionId);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        invalidations.increment();
+        cache.invalidateAll();
+        inFlight.clear();
+    }
+
+    @EventListener
+    public void onCompetitionChanged(CompetitionChangedEvent event) {
+        if (event.competitionId() == null) {
+            invalidateAll();
+        } else {
+            invalidate(event.competitionId());
+        }
+    }
+
+    private void store(String competitionId, Optional<Competition> competition) {
+        if (competition.isPresent()) {
+            cache.put(competitionId, competition);
+        } else {
+            // Unknown ids are remembered briefly so bad links cannot hammer Mongo.
+            cache.put(competitionId, competition, missingTtlMillis);
+        }
+    }
+
+    @Override
+    public String metricsName() {
+        return "competitionCache";
+    }
+
+    @Override
+    public Map<String, Object> metrics() {
+        Map<String, Object> out = new LinkedHashMap<>(cache.stats());
+        out.put("loads", loads.sum());
+        out.put("coalescedLoads", coalescedLoads.sum());
+        out.put("invalidations", invalidations.sum());
+        out.put("inFlight", inFlight.size());
+        return out;
+    }
+}
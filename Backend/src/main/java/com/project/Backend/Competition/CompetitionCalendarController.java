@@ -0,0 +1,41 @@
+package com.project.Backend.Competition;
+
+import java.util.Set;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.project.Backend.Auth.security.CurrentUser;
+import com.project.Backend.User.ResponseDTO.MessageResponse;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/competitions/calendar")
+@RequiredArgsConstructor
+public class CompetitionCalendarController {
+
+    private final CompetitionCalendarService calendarService;
+
+    // e.g. /competitions/calendar?days=7&scope=all&types=SUBMISSION,PROOF
+    @GetMapping
+    public ResponseEntity<?> upcomingDeadlines(
+            @CurrentUser String userId,
+            @RequestParam(defaultValue = "14") int days,
+            @RequestParam(defaultValue = "mine") String scope,
+            @RequestParam(required = false) Set<String> types) {
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new MessageResponse("Unauthorized"));
+        }
+        try {
+            boolean mine = !"all".equalsIgnoreCase(scope);
+            return ResponseEntity.ok(calendarService.upcoming(userId, days, mine, types));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(new MessageResponse(ex.getMessage()));
+        }
+    }
+}
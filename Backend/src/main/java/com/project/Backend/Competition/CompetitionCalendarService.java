@@ -0,0 +1,77 @@
+package com.project.Backend.Competition;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.project.Backend.Competition.ResponseDTO.CalendarEntryDTO;
+import com.project.Backend.CompetitionRegistration.CompetitionRegistration;
+import com.project.Backend.CompetitionRegistration.CompetitionRegistrationRepository;
+import com.project.Backend.CompetitionRegistration.RegistrationStatus;
+import com.project.Backend.Team.Team;
+import com.project.Backend.Team.TeamRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class CompetitionCalendarService {
+
+    private static final int MAX_ENTRIES = 500;
+
+    private final DeadlineCalendarIndex calendarIndex;
+    private final CompetitionRepository competitionRepository;
+    private final CompetitionRegistrationRepository competitionRegistrationRepository;
+    private final TeamRepository teamRepository;
+    private final Clock clock;
+
+    /**
+     * Deadlines from now until {@code days} ahead. With {@code mine} only
+     * competitions the user is registered for (directly or through a team)
+     * or created are included.
+     */
+    public List<CalendarEntryDTO> upcoming(String userId, int days, boolean mine, Set<String> deadlineTypes) {
+        if (days < 0) {
+            throw new IllegalArgumentException("days must not be negative");
+        }
+        LocalDateTime from = LocalDateTime.now(clock);
+        LocalDateTime to = from.plusDays(Math.min(days, 366));
+        Set<String> competitionIds = mine ? competitionIdsFor(userId) : null;
+        Set<String> types = deadlineTypes == null ? null
+                : deadlineTypes.stream().map(t -> t.trim().toUpperCase(Locale.ROOT)).collect(Collectors.toSet());
+        return calendarIndex.between(from, to, competitionIds, types, MAX_ENTRIES);
+    }
+
+    private Set<String> competitionIdsFor(String userId) {
+        Set<String> ids = new HashSet<>();
+        if (userId == null) {
+            return ids;
+        }
+        competitionRegistrationRepository
+                .findByStudentIdAndStatus(userId, RegistrationStatus.REGISTERED)
+                .forEach(r -> ids.add(r.getCompetitionId()));
+
+        List<String> teamIds = teamRepository
+                .findByMemberIds(userId)
+                .stream()
+                .map(Team::getTeamId)
+                .toList();
+        if (!teamIds.isEmpty()) {
+            competitionRegistrationRepository
+                    .findByTeamIdInAndStatus(teamIds, RegistrationStatus.REGISTERED)
+                    .stream()
+                    .map(CompetitionRegistration::getCompetitionId)
+                    .forEach(ids::add);
+        }
+
+        competitionRepository.findDeadlinesByCreatedBy(userId)
+                .forEach(c -> ids.add(c.getCompetitionId()));
+        return ids;
+    }
+}
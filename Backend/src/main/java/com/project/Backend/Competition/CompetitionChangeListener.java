@@ -0,0 +1,36 @@
+package com.project.Backend.Competition;
+
+import org.bson.Document;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Turns Mongo lifecycle events for competitions into
+ * {@link CompetitionChangedEvent}s, so caches and indexes built from the
+ * collection are refreshed whichever repository call wrote it.
+ */
+@Component
+@RequiredArgsConstructor
+public class CompetitionChangeListener extends AbstractMongoEventListener<Competition> {
+
+    private final ApplicationEventPublisher publisher;
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Competition> event) {
+        publisher.publishEvent(new CompetitionChangedEvent(event.getSource().getCompetitionId()));
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<Competition> event) {
+        // The source is the delete query; it names the id for deleteById only.
+        Document query = event.getSource();
+        Object id = query != null ? query.get("_id") : null;
+        boolean singleId = id != null && !(id instanceof Document);
+        publisher.publishEvent(new CompetitionChangedEvent(singleId ? id.toString() : null));
+    }
+}
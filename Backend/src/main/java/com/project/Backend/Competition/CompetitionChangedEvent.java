@@ -0,0 +1,9 @@
+package com.project.Backend.Competition;
+
+/**
+ * Published after a competition document is written or deleted. A null id
+ * means the affected competition is unknown and every derived view should
+ * be refreshed.
+ */
+public record CompetitionChangedEvent(String competitionId) {
+}
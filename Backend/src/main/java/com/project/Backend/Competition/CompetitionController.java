@@ -3,12 +3,25 @@ package com.project.Backend.Competition;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.project.Backend.Competition.CompetitionRepresentationCache.Representation;
+import com.project.Backend.Competition.RequestDTO.CompetitionFilter;
+import com.project.Backend.Competition.ResponseDTO.CompetitionPageResponse;
+import com.project.Backend.Competition.ResponseDTO.CompetitionSearchHitDTO;
+import com.project.Backend.Competition.ResponseDTO.CompetitionSummaryDTO;
+
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -16,19 +29,81 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CompetitionController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CompetitionRepository repository;
+    private final CompetitionRepresentationCache representations;
+    private final CompetitionSearchIndex searchIndex;
+
+    // Defaults make clients revalidate every time, which the ETags keep cheap.
+    @Value("${competition.app.competitionsCacheControl:no-cache}")
+    private String catalogCacheControl;
+
+    @Value("${competition.app.competitionCacheControl:no-cache}")
+    private String competitionCacheControl;
 
     @GetMapping
-    public ResponseEntity<List<Competition>> findAllCompetitions() {
-        return ResponseEntity.ok(repository.findAll());
+    public ResponseEntity<?> findAllCompetitions(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return conditional(representations.catalog(), ifNoneMatch, catalogCacheControl);
+    }
+
+    /**
+     * Keyset-paginated listing. Pass the returned nextCursor back as
+     * {@code cursor} to fetch the following page; {@code view=full} includes
+     * the materials text.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<?> findCompetitionPage(
+            @ModelAttribute CompetitionFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "summary") String view) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        boolean full = "full".equalsIgnoreCase(view);
+        // One extra row tells us whether another page exists.
+        List<Competition> rows = repository.findPage(filter, cursor, pageSize + 1, !full);
+        boolean hasMore = rows.size() > pageSize;
+        List<Competition> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore ? page.get(page.size() - 1).getCompetitionId() : null;
+        if (full) {
+            return ResponseEntity.ok(new CompetitionPageResponse<>(page, nextCursor));
+        }
+        List<CompetitionSummaryDTO> items = page.stream().map(CompetitionSummaryDTO::from).toList();
+        return ResponseEntity.ok(new CompetitionPageResponse<>(items, nextCursor));
+    }
+
+    // Ranked full-text search; the last word also matches as a prefix.
+    @GetMapping("/search")
+    public ResponseEntity<List<CompetitionSearchHitDTO>> searchCompetitions(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(searchIndex.search(query, Math.max(1, Math.min(limit, MAX_PAGE_SIZE))));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<?> findCompetitionById(@PathVariable String id) {
-        Optional<Competition> competition = repository.findById(id);
+    public ResponseEntity<?> findCompetitionById(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Optional<Representation> competition = representations.competition(id);
         if (competition.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
-        return ResponseEntity.ok(competition.get());
+        return conditional(competition.get(), ifNoneMatch, competitionCacheControl);
+    }
+
+    private static ResponseEntity<?> conditional(Representation representation, String ifNoneMatch,
+            String cacheControl) {
+        if (CompetitionRepresentationCache.matches(ifNoneMatch, representation.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(representation.etag())
+                    .header(HttpHeaders.CACHE_CONTROL, cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(representation.etag())
+                .header(HttpHeaders.CACHE_CONTROL, cacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(representation.body());
     }
 }
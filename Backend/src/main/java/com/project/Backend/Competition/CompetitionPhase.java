@@ -0,0 +1,7 @@
+package com.project.Backend.Competition;
+
+public enum CompetitionPhase {
+    REGISTRATION_OPEN, // up to and including the registration deadline
+    SUBMISSION_OPEN, // after registration closes, up to the submission deadline
+    CLOSED
+}
@@ -0,0 +1,8 @@
+package com.project.Backend.Competition;
+
+// Published when a tracked competition crosses one of its deadlines.
+public record CompetitionPhaseChangedEvent(
+        String competitionId,
+        CompetitionPhase previousPhase,
+        CompetitionPhase phase) {
+}
@@ -0,0 +1,277 @@
+package com.project.Backend.Competition;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.project.Backend.Metrics.MetricsSource;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Keeps the current {@link CompetitionPhase} of every competition so request
+ * paths read a precomputed value instead of comparing deadlines themselves.
+ *
+ * Upcoming deadlines sit in a priority queue and a single timer thread wakes
+ * at the earliest one to flip the phase and publish a
+ * {@link CompetitionPhaseChangedEvent}. Reads also check the next boundary
+ * against the clock, so a late timer never serves a stale phase.
+ *
+ * All time comes from the injected {@link Clock}. Tests can use an
+ * adjustable clock and call {@link #processDueBoundaries()} after moving it.
+ */
+@Component
+public class CompetitionPhaseScheduler implements MetricsSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompetitionPhaseScheduler.class);
+
+    // Re-check at least this often, in case the wall clock jumps.
+    private static final long MAX_SLEEP_MS = 60_000;
+    private static final long NO_BOUNDARY = Long.MAX_VALUE;
+
+    private record PhaseState(
+            CompetitionPhase phase,
+            LocalDateTime registrationDeadline,
+            LocalDateTime submissionDeadline,
+            long nextBoundaryMillis) {
+    }
+
+    private record Boundary(String competitionId, PhaseState state, long atMillis) {
+    }
+
+    private final Clock clock;
+    private final CompetitionRepository competitionRepository;
+    private final ApplicationEventPublisher publisher;
+
+    private final ConcurrentHashMap<String, PhaseState> states = new ConcurrentHashMap<>();
+    private final PriorityQueue<Boundary> boundaries = new PriorityQueue<>(Comparator.comparingLong(Boundary::atMillis));
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "competition-phase-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ScheduledFuture<?> wakeUp;
+    private long wakeUpAtMillis = NO_BOUNDARY;
+
+    private final LongAdder transitions = new LongAdder();
+    private final LongAdder inlineTransitions = new LongAdder();
+
+    public CompetitionPhaseScheduler(
+            Clock clock,
+            CompetitionRepository competitionRepository,
+            ApplicationEventPublisher publisher) {
+        this.clock = clock;
+        this.competitionRepository = competitionRepository;
+        this.publisher = publisher;
+    }
+
+    // ================= READS =================
+
+    public CompetitionPhase phase(Competition competition) {
+        String id = competition.getCompetitionId();
+        if (id == null) {
+            return compute(competition.getRegistrationDeadline(), competition.getSubmissionDeadline()).phase();
+        }
+        PhaseState state = states.get(id);
+        if (state == null
+                || !Objects.equals(state.registrationDeadline(), competition.getRegistrationDeadline())
+                || !Objects.equals(state.submissionDeadline(), competition.getSubmissionDeadline())) {
+            return track(id, competition.getRegistrationDeadline(), competition.getSubmissionDeadline()).phase();
+        }
+        if (clock.millis() >= state.nextBoundaryMillis()) {
+            inlineTransitions.increment();
+            return advance(id, state).phase();
+        }
+        return state.phase();
+    }
+
+    /**
+     * Registration has no start date and stays open forever when there is no
+     * registration deadline.
+     */
+    public boolean isRegistrationOpen(Competition competition) {
+        return competition.getRegistrationDeadline() == null
+                || phase(competition) == CompetitionPhase.REGISTRATION_OPEN;
+    }
+
+    // A missing competition is treated as open, as the submission views always did.
+    public boolean isSubmissionOpen(Competition competition) {
+        return competition == null || phase(competition) == CompetitionPhase.SUBMISSION_OPEN;
+    }
+
+    // ================= TRACKING =================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void trackAll() {
+        try {
+            for (Competition competition : competitionRepository.findAllDeadlines()) {
+                track(competition.getCompetitionId(),
+                        competition.getRegistrationDeadline(),
+                        competition.getSubmissionDeadline());
+            }
+            logger.info("Tracking phases of {} competitions", states.size());
+        } catch (Exception e) {
+            logger.error("Unable to load competition deadlines: {}", e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onCompetitionChanged(CompetitionChangedEvent event) {
+        // Re-tracked with the new deadlines on the next read.
+        if (event.competitionId() == null) {
+            states.clear();
+        } else {
+            states.remove(event.competitionId());
+        }
+    }
+
+    /**
+     * Applies every boundary that is due according to the clock. Called by
+     * the timer thread; safe to call directly.
+     */
+    public void processDueBoundaries() {
+        long now = clock.millis();
+        List<Boundary> due = new ArrayList<>();
+        synchronized (this) {
+            while (!boundaries.isEmpty() && boundaries.peek().atMillis() <= now) {
+                due.add(boundaries.poll());
+            }
+            wakeUpAtMillis = NO_BOUNDARY;
+            rearm();
+        }
+        for (Boundary boundary : due) {
+            // Skip boundaries of states that were replaced or re-tracked since.
+            if (states.get(boundary.competitionId()) == boundary.state()) {
+                advance(boundary.competitionId(), boundary.state());
+            }
+        }
+    }
+
+    private PhaseState track(String id, LocalDateTime registrationDeadline, LocalDateTime submissionDeadline) {
+        PhaseState state = compute(registrationDeadline, submissionDeadline);
+        PhaseState previous = states.put(id, state);
+        if (previous != null && previous.phase() != state.phase()
+                && Objects.equals(previous.registrationDeadline(), registrationDeadline)
+                && Objects.equals(previous.submissionDeadline(), submissionDeadline)) {
+            publish(id, previous.phase(), state.phase());
+        }
+        schedule(id, state);
+        return state;
+    }
+
+    private PhaseState advance(String id, PhaseState current) {
+        PhaseState next = compute(current.registrationDeadline(), current.submissionDeadline());
+        if (next.phase() == current.phase() && next.nextBoundaryMillis() == current.nextBoundaryMillis()) {
+            return current;
+        }
+        if (!states.replace(id, current, next)) {
+            PhaseState winner = states.get(id);
+            return winner != null ? winner : next;
+        }
+        if (next.phase() != current.phase()) {
+            publish(id, current.phase(), next.phase());
+        }
+        schedule(id, next);
+        return next;
+    }
+
+    private void publish(String id, CompetitionPhase from, CompetitionPhase to) {
+        transitions.increment();
+        try {
+            publisher.publishEvent(new CompetitionPhaseChangedEvent(id, from, to));
+        } catch (Exception e) {
+            logger.warn("Phase change listener failed for competition {}: {}", id, e.getMessage());
+        }
+    }
+
+    private PhaseState compute(LocalDateTime registrationDeadline, LocalDateTime submissionDeadline) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (registrationDeadline != null && !now.isAfter(registrationDeadline)) {
+            return new PhaseState(CompetitionPhase.REGISTRATION_OPEN, registrationDeadline, submissionDeadline,
+                    firstMillisAfter(registrationDeadline));
+        }
+        if (submissionDeadline == null || !now.isAfter(submissionDeadline)) {
+            return new PhaseState(CompetitionPhase.SUBMISSION_OPEN, registrationDeadline, submissionDeadline,
+                    submissionDeadline != null ? firstMillisAfter(submissionDeadline) : NO_BOUNDARY);
+        }
+        return new PhaseState(CompetitionPhase.CLOSED, registrationDeadline, submissionDeadline, NO_BOUNDARY);
+    }
+
+    private long firstMillisAfter(LocalDateTime deadline) {
+        return deadline.atZone(clock.getZone()).toInstant().toEpochMilli() + 1;
+    }
+
+    // ================= TIMER =================
+
+    private synchronized void schedule(String id, PhaseState state) {
+        if (state.nextBoundaryMillis() == NO_BOUNDARY) {
+            return;
+        }
+        boundaries.add(new Boundary(id, state, state.nextBoundaryMillis()));
+        if (state.nextBoundaryMillis() < wakeUpAtMillis) {
+            rearm();
+        }
+    }
+
+    private void rearm() {
+        Boundary head = boundaries.peek();
+        if (head == null || head.atMillis() == wakeUpAtMillis) {
+            return;
+        }
+        if (wakeUp != null) {
+            wakeUp.cancel(false);
+        }
+        wakeUpAtMillis = head.atMillis();
+        long delay = Math.min(MAX_SLEEP_MS, Math.max(0, head.atMillis() - clock.millis()));
+        wakeUp = timer.schedule(this::processDueBoundariesSafely, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void processDueBoundariesSafely() {
+        try {
+            processDueBoundaries();
+        } catch (Exception e) {
+            logger.error("Competition phase timer failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        timer.shutdownNow();
+    }
+
+    @Override
+    public String metricsName() {
+        return "competitionPhases";
+    }
+
+    @Override
+    public Map<String, Object> metrics() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("tracked", states.size());
+        synchronized (this) {
+            out.put("pendingBoundaries", boundaries.size());
+        }
+        out.put("transitions", transitions.sum());
+        out.put("inlineTransitions", inlineTransitions.sum());
+        return out;
+    }
+}
@@ -1,7 +1,21 @@
 package com.project.Backend.Competition;
 
+import java.util.List;
+
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+public interface CompetitionRepository extends MongoRepository<Competition, String>, CompetitionRepositoryCustom {
+
+    // Only the fields submission views need (see SubmissionMapper.toResponse).
+    @Query(value = "{ 'createdBy': ?0 }",
+            fields = "{ '_id': 1, 'registrationDeadline': 1, 'submissionDeadline': 1, 'format': 1 }")
+    List<Competition> findDeadlinesByCreatedBy(String createdBy);
 
-public interface CompetitionRepository extends MongoRepository<Competition, String> {
+    @Query(value = "{}", fields = "{ '_id': 1, 'registrationDeadline': 1, 'submissionDeadline': 1 }")
+    List<Competition> findAllDeadlines();
 
+    // Everything but the materials text, for the deadline calendar.
+    @Query(value = "{}", fields = "{ 'materials': 0 }")
+    List<Competition> findAllCalendarFields();
 }
@@ -0,0 +1,15 @@
+package com.project.Backend.Competition;
+
+import java.util.List;
+
+import com.project.Backend.Competition.RequestDTO.CompetitionFilter;
+
+public interface CompetitionRepositoryCustom {
+
+    /**
+     * Returns up to {@code limit} competitions matching the filter, newest
+     * first, starting after the competition id {@code cursor} (null for the
+     * first page). With {@code summaryOnly} the materials text is not loaded.
+     */
+    List<Competition> findPage(CompetitionFilter filter, String cursor, int limit, boolean summaryOnly);
+}
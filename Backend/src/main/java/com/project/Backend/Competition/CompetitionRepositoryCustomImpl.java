@@ -0,0 +1,83 @@
+package com.project.Backend.Competition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.project.Backend.Competition.RequestDTO.CompetitionFilter;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+class CompetitionRepositoryCustomImpl implements CompetitionRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<Competition> findPage(CompetitionFilter filter, String cursor, int limit, boolean summaryOnly) {
+        List<Criteria> criteria = new ArrayList<>();
+        if (filter != null) {
+            addEquals(criteria, "competitionType", filter.competitionType());
+            addEquals(criteria, "format", filter.format());
+            addEquals(criteria, "participationType", filter.participationType());
+            addEquals(criteria, "createdBy", filter.createdBy());
+            addRange(criteria, "registrationDeadline",
+                    filter.registrationDeadlineFrom(), filter.registrationDeadlineTo());
+            addRange(criteria, "submissionDeadline",
+                    filter.submissionDeadlineFrom(), filter.submissionDeadlineTo());
+        }
+        if (cursor != null && !cursor.isBlank()) {
+            criteria.add(after(cursor));
+        }
+
+        Query query = new Query();
+        if (!criteria.isEmpty()) {
+            query.addCriteria(new Criteria().andOperator(criteria));
+        }
+        query.with(Sort.by(Sort.Direction.DESC, "_id")).limit(limit);
+        if (summaryOnly) {
+            query.fields().exclude("materials");
+        }
+        return mongoTemplate.find(query, Competition.class);
+    }
+
+    /**
+     * Ids are a mix of generated ObjectIds and seeded string ids. Sorted
+     * descending, ObjectIds come before strings, and $lt only compares
+     * values of the same type, so a cursor on an ObjectId must also let the
+     * string ids through.
+     */
+    private static Criteria after(String cursor) {
+        if (ObjectId.isValid(cursor)) {
+            return new Criteria().orOperator(
+                    Criteria.where("_id").lt(new ObjectId(cursor)),
+                    Criteria.where("_id").type(2));
+        }
+        return Criteria.where("_id").lt(cursor);
+    }
+
+    private static void addEquals(List<Criteria> criteria, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            criteria.add(Criteria.where(field).is(value));
+        }
+    }
+
+    private static void addRange(List<Criteria> criteria, String field, Object from, Object to) {
+        if (from == null && to == null) {
+            return;
+        }
+        Criteria range = Criteria.where(field);
+        if (from != null) {
+            range = range.gte(from);
+        }
+        if (to != null) {
+            range = range.lte(to);
+        }
+        criteria.add(range);
+    }
+}
@@ -0,0 +1,169 @@
+package com.project.Backend.Competition;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.Backend.Cache.BoundedCache;
+import com.project.Backend.Metrics.MetricsSource;
+
+/**
+ * Pre-serialized JSON and strong ETags for the competition read endpoints.
+ *
+ * The ETag is a digest of the serialized body, computed once when the
+ * representation is built and kept until the competition changes, so a
+ * conditional GET is answered from memory without Mongo or Jackson. The
+ * catalog has a single snapshot that any competition change discards.
+ */
+@Component
+public class CompetitionRepresentationCache implements MetricsSource {
+
+    public record Representation(byte[] body, String etag) {
+    }
+
+    private record CatalogSnapshot(Representation representation, long expiresAtNanos) {
+    }
+
+    private final CompetitionRepository competitionRepository;
+    private final CompetitionCache competitionCache;
+    private final ObjectMapper objectMapper;
+    private final BoundedCache<String, Representation> competitions;
+    private final long catalogTtlNanos;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile CatalogSnapshot catalog;
+
+    private final LongAdder catalogBuilds = new LongAdder();
+    private final LongAdder competitionBuilds = new LongAdder();
+
+    public CompetitionRepresentationCache(
+            CompetitionRepository competitionRepository,
+            CompetitionCache competitionCache,
+            ObjectMapper objectMapper,
+            @Value("${competition.app.competitionCacheSize:5000}") int maximumSize,
+            @Value("${competition.app.competitionCacheTtlMs:300000}") long ttlMillis) {
+        this.competitionRepository = competitionRepository;
+        this.competitionCache = competitionCache;
+        this.objectMapper = objectMapper;
+        this.competitions = new BoundedCache<>(maximumSize, ttlMillis);
+        this.catalogTtlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    }
+
+    public Optional<Representation> competition(String competitionId) {
+        Representation cached = competitions.getIfPresent(competitionId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long startGeneration = generation.get();
+        Optional<Representation> built = competitionCache.findById(competitionId).map(this::serialize);
+        competitionBuilds.increment();
+        if (built.isPresent() && generation.get() == startGeneration) {
+            competitions.put(competitionId, built.get());
+        }
+        return built;
+    }
+
+    public Representation catalog() {
+        CatalogSnapshot snapshot = catalog;
+        if (snapshot != null && System.nanoTime() - snapshot.expiresAtNanos() < 0) {
+            return snapshot.representation();
+        }
+        return rebuildCatalog();
+    }
+
+    // Synchronized so a burst of polls after a change triggers one rebuild.
+    private synchronized Representation rebuildCatalog() {
+        CatalogSnapshot snapshot = catalog;
+        if (snapshot != null && System.nanoTime() - snapshot.expiresAtNanos() < 0) {
+            return snapshot.representation();
+        }
+        long startGeneration = generation.get();
+        List<Competition> all = competitionRepository.findAll();
+        Representation built = serialize(all);
+        catalogBuilds.increment();
+        if (generation.get() == startGeneration) {
+            catalog = new CatalogSnapshot(built, System.nanoTime() + catalogTtlNanos);
+        }
+        return built;
+    }
+
+    @EventListener
+    public void onCompetitionChanged(CompetitionChangedEvent event) {
+        generation.incrementAndGet();
+        catalog = null;
+        if (event.competitionId() == null) {
+            competitions.invalidateAll();
+        } else {
+            competitions.invalidate(event.competitionId());
+        }
+    }
+
+    private Representation serialize(Object value) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(value);
+            return new Representation(body, etag(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize competition data", e);
+        }
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            String encoded = Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+            return "\"" + encoded.substring(0, 27) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * True if an If-None-Match header value names {@code etag}, either
+     * directly, in a list, as a weak validator, or through "*".
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String metricsName() {
+        return "competitionRepresentations";
+    }
+
+    @Override
+    public Map<String, Object> metrics() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("competitions", competitions.stats());
+        out.put("competitionBuilds", competitionBuilds.sum());
+        out.put("catalogBuilds", catalogBuilds.sum());
+        CatalogSnapshot snapshot = catalog;
+        out.put("catalogBytes", snapshot != null ? snapshot.representation().body().length : 0);
+        return out;
+    }
+}
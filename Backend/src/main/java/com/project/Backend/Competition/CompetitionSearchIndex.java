@@ -0,0 +1,351 @@
+package com.project.Backend.Competition;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import com.project.Backend.Competition.ResponseDTO.CompetitionSearchHitDTO;
+import com.project.Backend.Metrics.MetricsSource;
+
+/**
+ * In-process full-text search over competitions.
+ *
+ * An inverted index maps each term of title, materials, format and
+ * participationType to the competitions containing it, with per-field
+ * weights folded into the term frequency. Results are ranked with BM25. The
+ * last query term also matches as a prefix, so partial words work for
+ * search-as-you-type. Terms are kept sorted, which makes a prefix lookup a
+ * range scan.
+ *
+ * Built from Mongo once the application is ready and updated per
+ * competition on {@link CompetitionChangedEvent}; queries never reach Mongo.
+ */
+@Component
+public class CompetitionSearchIndex implements MetricsSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompetitionSearchIndex.class);
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double TITLE_WEIGHT = 3.0;
+    private static final double TAG_WEIGHT = 1.5;
+    private static final double MATERIALS_WEIGHT = 1.0;
+    // Upper bound on how many terms one prefix may expand to.
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it",
+            "of", "on", "or", "the", "this", "to", "with");
+
+    private record Document(CompetitionSearchHitDTO summary, Map<String, Double> termFrequencies, double length) {
+    }
+
+    private record Hit(String competitionId, double score) {
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Changes seen while a rebuild is streaming, re-applied after the swap.
+    private volatile boolean rebuilding;
+    private final Set<String> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    // Guarded by lock.
+    private TreeMap<String, Map<String, Double>> postings = new TreeMap<>();
+    private Map<String, Document> documents = new HashMap<>();
+    private double totalLength;
+
+    private final LongAdder queries = new LongAdder();
+    private final LongAdder queryNanos = new LongAdder();
+
+    public CompetitionSearchIndex(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public List<CompetitionSearchHitDTO> search(String queryText, int limit) {
+        long started = System.nanoTime();
+        List<String> words = words(queryText);
+        if (words.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        // A trailing space means the last word is complete.
+        boolean lastIsPrefix = !Character.isWhitespace(queryText.charAt(queryText.length() - 1));
+        // A word still being typed may be the start of a longer one ("on" of
+        // "online"), so only complete words are dropped as stop words.
+        List<String> terms = new ArrayList<>(words.size());
+        for (int i = 0; i < words.size(); i++) {
+            String word = words.get(i);
+            if (!STOP_WORDS.contains(word) || (lastIsPrefix && i == words.size() - 1)) {
+                terms.add(word);
+            }
+        }
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return List.of();
+            }
+            double averageLength = totalLength / documents.size();
+            Map<String, Double> scores = new HashMap<>();
+            for (int i = 0; i < terms.size(); i++) {
+                String term = terms.get(i);
+                if (i == terms.size() - 1 && lastIsPrefix) {
+                    // Each competition counts its best expansion of the prefix once.
+                    Map<String, Double> best = new HashMap<>();
+                    int expansions = 0;
+                    for (Map.Entry<String, Map<String, Double>> expansion
+                            : postings.subMap(term, true, term + Character.MAX_VALUE, false).entrySet()) {
+                        scoreTerm(expansion.getValue(), averageLength, best, true);
+                        if (++expansions >= MAX_PREFIX_EXPANSIONS) {
+                            break;
+                        }
+                    }
+                    best.forEach((id, score) -> scores.merge(id, score, Double::sum));
+                } else {
+                    Map<String, Double> docs = postings.get(term);
+                    if (docs != null) {
+                        scoreTerm(docs, averageLength, scores, false);
+                    }
+                }
+            }
+            return topHits(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+            queries.increment();
+            queryNanos.add(System.nanoTime() - started);
+        }
+    }
+
+    private void scoreTerm(Map<String, Double> docs, double averageLength, Map<String, Double> scores, boolean keepMax) {
+        double n = documents.size();
+        double idf = Math.log(1 + (n - docs.size() + 0.5) / (docs.size() + 0.5));
+        for (Map.Entry<String, Double> posting : docs.entrySet()) {
+            Document document = documents.get(posting.getKey());
+            double tf = posting.getValue();
+            double norm = K1 * (1 - B + B * document.length() / averageLength);
+            double score = idf * tf * (K1 + 1) / (tf + norm);
+            if (keepMax) {
+                scores.merge(posting.getKey(), score, Math::max);
+            } else {
+                scores.merge(posting.getKey(), score, Double::sum);
+            }
+        }
+    }
+
+    private List<CompetitionSearchHitDTO> topHits(Map<String, Double> scores, int limit) {
+        PriorityQueue<Hit> top = new PriorityQueue<>(Comparator.comparingDouble(Hit::score));
+        for (Map.Entry<String, Double> entry : scores.entrySet()) {
+            if (top.size() < limit) {
+                top.add(new Hit(entry.getKey(), entry.getValue()));
+            } else if (entry.getValue() > top.peek().score()) {
+                top.poll();
+                top.add(new Hit(entry.getKey(), entry.getValue()));
+            }
+        }
+        List<CompetitionSearchHitDTO> hits = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            Hit hit = top.poll();
+            CompetitionSearchHitDTO summary = documents.get(hit.competitionId()).summary();
+            hits.add(new CompetitionSearchHitDTO(
+                    summary.competitionId(),
+                    summary.title(),
+                    summary.competitionType(),
+                    summary.format(),
+                    summary.participationType(),
+                    hit.score()));
+        }
+        return hits.reversed();
+    }
+
+    // ================= MAINTENANCE =================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        rebuilding = true;
+        try {
+            rebuildIndex();
+        } finally {
+            rebuilding = false;
+        }
+        List<String> changed = new ArrayList<>(changedDuringRebuild);
+        changedDuringRebuild.removeAll(changed);
+        changed.forEach(this::reindex);
+    }
+
+    private void rebuildIndex() {
+        TreeMap<String, Map<String, Double>> newPostings = new TreeMap<>();
+        Map<String, Document> newDocuments = new HashMap<>();
+        double[] newTotalLength = { 0 };
+        try (Stream<Competition> all = mongoTemplate.stream(new Query(), Competition.class)) {
+            all.forEach(competition -> {
+                Document document = analyze(competition);
+                if (document != null) {
+                    newDocuments.put(competition.getCompetitionId(), document);
+                    newTotalLength[0] += document.length();
+                    addPostings(newPostings, competition.getCompetitionId(), document);
+                }
+            });
+        } catch (Exception e) {
+            logger.error("Unable to build competition search index: {}", e.getMessage());
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            documents = newDocuments;
+            totalLength = newTotalLength[0];
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Search index built over {} competitions, {} terms", newDocuments.size(), newPostings.size());
+    }
+
+    @EventListener
+    public void onCompetitionChanged(CompetitionChangedEvent event) {
+        if (event.competitionId() == null) {
+            rebuild();
+            return;
+        }
+        if (rebuilding) {
+            changedDuringRebuild.add(event.competitionId());
+        }
+        reindex(event.competitionId());
+    }
+
+    private void reindex(String competitionId) {
+        Competition competition = mongoTemplate.findById(competitionId, Competition.class);
+        Document document = competition != null ? analyze(competition) : null;
+        lock.writeLock().lock();
+        try {
+            remove(competitionId);
+            if (document != null) {
+                documents.put(competitionId, document);
+                totalLength += document.length();
+                addPostings(postings, competitionId, document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(String competitionId) {
+        Document previous = documents.remove(competitionId);
+        if (previous == null) {
+            return;
+        }
+        totalLength -= previous.length();
+        for (String term : previous.termFrequencies().keySet()) {
+            Map<String, Double> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(competitionId);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static void addPostings(TreeMap<String, Map<String, Double>> target, String competitionId,
+            Document document) {
+        document.termFrequencies().forEach((term, tf) ->
+                target.computeIfAbsent(term, t -> new HashMap<>()).put(competitionId, tf));
+    }
+
+    private static Document analyze(Competition competition) {
+        if (competition.getCompetitionId() == null) {
+            return null;
+        }
+        Map<String, Double> frequencies = new HashMap<>();
+        double length = addField(frequencies, competition.getTitle(), TITLE_WEIGHT)
+                + addField(frequencies, competition.getFormat(), TAG_WEIGHT)
+                + addField(frequencies, competition.getParticipationType(), TAG_WEIGHT)
+                + addField(frequencies, competition.getMaterials(), MATERIALS_WEIGHT);
+        CompetitionSearchHitDTO summary = new CompetitionSearchHitDTO(
+                competition.getCompetitionId(),
+                competition.getTitle(),
+                competition.getCompetitionType(),
+                competition.getFormat(),
+                competition.getParticipationType(),
+                0);
+        return new Document(summary, frequencies, length);
+    }
+
+    private static double addField(Map<String, Double> frequencies, String text, double weight) {
+        List<String> tokens = tokenize(text);
+        for (String token : tokens) {
+            frequencies.merge(token, weight, Double::sum);
+        }
+        return tokens.size() * weight;
+    }
+
+    // Lower-cased runs of letters and digits, without stop words.
+    static List<String> tokenize(String text) {
+        List<String> tokens = words(text);
+        tokens.removeIf(STOP_WORDS::contains);
+        return tokens;
+    }
+
+    // Lower-cased runs of letters and digits.
+    static List<String> words(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    @Override
+    public String metricsName() {
+        return "competitionSearch";
+    }
+
+    @Override
+    public Map<String, Object> metrics() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            out.put("documents", documents.size());
+            out.put("terms", postings.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+        long count = queries.sum();
+        out.put("queries", count);
+        out.put("avgQueryMicros", count == 0 ? 0.0 : queryNanos.sum() / 1000.0 / count);
+        return out;
+    }
+}
@@ -0,0 +1,160 @@
+package com.project.Backend.Competition;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.BiConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.project.Backend.Competition.ResponseDTO.CalendarEntryDTO;
+import com.project.Backend.Metrics.MetricsSource;
+
+/**
+ * Every registration, submission and proof deadline in one sorted index, so
+ * "what is due between A and B" is a range scan over exactly the matching
+ * entries instead of a pass over the whole catalog.
+ *
+ * Loaded once the application is ready and kept current through
+ * {@link CompetitionChangedEvent}; a changed competition is re-read from
+ * Mongo and its entries replaced.
+ */
+@Component
+public class DeadlineCalendarIndex implements MetricsSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadlineCalendarIndex.class);
+
+    public static final String REGISTRATION = "REGISTRATION";
+    public static final String SUBMISSION = "SUBMISSION";
+    public static final String PROOF = "PROOF";
+
+    private record Key(LocalDateTime deadline, String competitionId, String deadlineType) {
+    }
+
+    private static final Comparator<Key> ORDER = Comparator.comparing(Key::deadline)
+            .thenComparing(Key::competitionId)
+            .thenComparing(Key::deadlineType);
+
+    private final CompetitionRepository competitionRepository;
+
+    private final ConcurrentSkipListMap<Key, CalendarEntryDTO> entries = new ConcurrentSkipListMap<>(ORDER);
+    private final ConcurrentHashMap<String, List<Key>> keysByCompetition = new ConcurrentHashMap<>();
+
+    public DeadlineCalendarIndex(CompetitionRepository competitionRepository) {
+        this.competitionRepository = competitionRepository;
+    }
+
+    /**
+     * Deadlines in {@code [from, to]}, in time order. When
+     * {@code competitionIds} is non-null only those competitions are
+     * returned.
+     */
+    public List<CalendarEntryDTO> between(LocalDateTime from, LocalDateTime to, Set<String> competitionIds,
+            Set<String> deadlineTypes, int limit) {
+        List<CalendarEntryDTO> out = new ArrayList<>();
+        if (from.isAfter(to) || (competitionIds != null && competitionIds.isEmpty())) {
+            return out;
+        }
+        // Lowest and highest possible keys for the two instants.
+        Key low = new Key(from, "", "");
+        Key high = new Key(to, "\uffff", "\uffff");
+        for (Map.Entry<Key, CalendarEntryDTO> entry : entries.subMap(low, true, high, true).entrySet()) {
+            Key key = entry.getKey();
+            if (competitionIds != null && !competitionIds.contains(key.competitionId())) {
+                continue;
+            }
+            if (deadlineTypes != null && !deadlineTypes.isEmpty() && !deadlineTypes.contains(key.deadlineType())) {
+                continue;
+            }
+            out.add(entry.getValue());
+            if (out.size() >= limit) {
+                break;
+            }
+        }
+        return out;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        try {
+            entries.clear();
+            keysByCompetition.clear();
+            for (Competition competition : competitionRepository.findAllCalendarFields()) {
+                index(competition);
+            }
+            logger.info("Deadline calendar indexed {} deadlines", entries.size());
+        } catch (Exception e) {
+            logger.error("Unable to build deadline calendar: {}", e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onCompetitionChanged(CompetitionChangedEvent event) {
+        if (event.competitionId() == null) {
+            rebuild();
+            return;
+        }
+        synchronized (this) {
+            remove(event.competitionId());
+            competitionRepository.findById(event.competitionId()).ifPresent(this::index);
+        }
+    }
+
+    private void index(Competition competition) {
+        String id = competition.getCompetitionId();
+        if (id == null) {
+            return;
+        }
+        List<Key> keys = new ArrayList<>(3);
+        BiConsumer<String, LocalDateTime> add = (type, deadline) -> {
+            if (deadline == null) {
+                return;
+            }
+            Key key = new Key(deadline, id, type);
+            entries.put(key, new CalendarEntryDTO(
+                    id,
+                    competition.getTitle(),
+                    type,
+                    deadline,
+                    competition.getCompetitionType(),
+                    competition.getFormat(),
+                    competition.getParticipationType()));
+            keys.add(key);
+        };
+        add.accept(REGISTRATION, competition.getRegistrationDeadline());
+        add.accept(SUBMISSION, competition.getSubmissionDeadline());
+        add.accept(PROOF, competition.getProofDeadline());
+        if (!keys.isEmpty()) {
+            keysByCompetition.put(id, keys);
+        }
+    }
+
+    private void remove(String competitionId) {
+        Collection<Key> keys = keysByCompetition.remove(competitionId);
+        if (keys != null) {
+            keys.forEach(entries::remove);
+        }
+    }
+
+    @Override
+    public String metricsName() {
+        return "deadlineCalendar";
+    }
+
+    @Override
+    public Map<String, Object> metrics() {
+        return Map.of(
+                "deadlines", entries.size(),
+                "competitions", keysByCompetition.size());
+    }
+}
@@ -0,0 +1,18 @@
+package com.project.Backend.Competition.RequestDTO;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+
+// Every field is optional; deadline ranges are inclusive.
+public record CompetitionFilter(
+        String competitionType,
+        String format,
+        String participationType,
+        String createdBy,
+        @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime registrationDeadlineFrom,
+        @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime registrationDeadlineTo,
+        @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime submissionDeadlineFrom,
+        @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime submissionDeadlineTo) {
+}
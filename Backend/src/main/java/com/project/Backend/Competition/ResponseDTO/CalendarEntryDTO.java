@@ -0,0 +1,13 @@
+package com.project.Backend.Competition.ResponseDTO;
+
+import java.time.LocalDateTime;
+
+public record CalendarEntryDTO(
+        String competitionId,
+        String title,
+        String deadlineType, // REGISTRATION | SUBMISSION | PROOF
+        LocalDateTime deadline,
+        String competitionType,
+        String format,
+        String participationType) {
+}
@@ -0,0 +1,9 @@
+package com.project.Backend.Competition.ResponseDTO;
+
+import java.util.List;
+
+// nextCursor is null on the last page.
+public record CompetitionPageResponse<T>(
+        List<T> items,
+        String nextCursor) {
+}
@@ -0,0 +1,10 @@
+package com.project.Backend.Competition.ResponseDTO;
+
+public record CompetitionSearchHitDTO(
+        String competitionId,
+        String title,
+        String competitionType,
+        String format,
+        String participationType,
+        double score) {
+}
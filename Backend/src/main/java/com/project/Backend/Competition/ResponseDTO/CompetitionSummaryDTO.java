@@ -0,0 +1,41 @@
+package com.project.Backend.Competition.ResponseDTO;
+
+import java.time.LocalDateTime;
+
+import com.project.Backend.Competition.Competition;
+
+// Listing view of a competition; leaves out the materials text.
+public record CompetitionSummaryDTO(
+        String competitionId,
+        String title,
+        String competitionType,
+        String format,
+        String participationType,
+        String createdBy,
+        LocalDateTime registrationDeadline,
+        LocalDateTime submissionDeadline,
+        LocalDateTime proofDeadline,
+        Integer quizDurationMinutes,
+        Integer totalMarks,
+        Integer minTeamSize,
+        Integer maxTeamSize,
+        Integer maxParticipants) {
+
+    public static CompetitionSummaryDTO from(Competition competition) {
+        return new CompetitionSummaryDTO(
+                competition.getCompetitionId(),
+                competition.getTitle(),
+                competition.getCompetitionType(),
+                competition.getFormat(),
+                competition.getParticipationType(),
+                competition.getCreatedBy(),
+                competition.getRegistrationDeadline(),
+                competition.getSubmissionDeadline(),
+                competition.getProofDeadline(),
+                competition.getQuizDurationMinutes(),
+                competition.getTotalMarks(),
+                competition.getMinTeamSize(),
+                competition.getMaxTeamSize(),
+                competition.getMaxParticipants());
+    }
+}
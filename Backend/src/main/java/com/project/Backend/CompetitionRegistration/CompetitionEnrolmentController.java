@@ -0,0 +1,43 @@
+package com.project.Backend.CompetitionRegistration;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.project.Backend.Auth.security.CurrentUser;
+import com.project.Backend.CompetitionRegistration.RequestDTO.BulkEnrolmentRequestDTO;
+import com.project.Backend.User.ResponseDTO.MessageResponse;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/teacher/competitions")
+@PreAuthorize("hasRole('TEACHER')")
+@RequiredArgsConstructor
+public class CompetitionEnrolmentController {
+
+    private final CompetitionRegistrationService registrationService;
+
+    @PostMapping("/{competitionId}/enrolments")
+    public ResponseEntity<?> enrolStudents(
+            @PathVariable String competitionId,
+            @RequestBody BulkEnrolmentRequestDTO dto,
+            @CurrentUser String teacherId) {
+        if (teacherId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new MessageResponse("Unauthorized"));
+        }
+        try {
+            return ResponseEntity.ok(registrationService.enrolStudents(
+                    competitionId,
+                    teacherId,
+                    dto != null ? dto.students() : null));
+        } catch (IllegalStateException | IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(new MessageResponse(ex.getMessage()));
+        }
+    }
+}
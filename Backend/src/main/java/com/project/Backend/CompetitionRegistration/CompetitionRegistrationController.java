@@ -6,8 +6,6 @@ import java.util.List;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -15,7 +13,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.project.Backend.Auth.security.services.UserDetailsImpl;
+import com.project.Backend.Auth.security.CurrentUser;
 import com.project.Backend.CompetitionRegistration.RequestDTO.CompetitionRegistrationRequestDTO;
 import com.project.Backend.CompetitionRegistration.ResponseDTO.CompetitionRegistrationResponseDTO;
 import com.project.Backend.Team.Team;
@@ -35,8 +33,7 @@ public class CompetitionRegistrationController {
     private final TeamRepository teamRepository;
 
     @GetMapping("/registrations/me")
-    public ResponseEntity<?> myRegistrations() {
-        String studentId = currentUserId();
+    public ResponseEntity<?> myRegistrations(@CurrentUser String studentId) {
         if (studentId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new MessageResponse("Unauthorized"));
         }
@@ -45,7 +42,7 @@ public class CompetitionRegistrationController {
         out.addAll(registrationRepository.findByStudentIdAndStatus(studentId, RegistrationStatus.REGISTERED));
 
         List<String> teamIds = teamRepository
-                .findByLeaderIdOrAcceptedMemberIdsContaining(studentId, studentId)
+                .findByMemberIds(studentId)
                 .stream()
                 .map(Team::getTeamId)
                 .toList();
@@ -64,8 +61,8 @@ public class CompetitionRegistrationController {
     @PostMapping("/{competitionId}/registrations")
     public ResponseEntity<?> register(
             @PathVariable String competitionId,
-            @RequestBody CompetitionRegistrationRequestDTO request) {
-        String studentId = currentUserId();
+            @RequestBody CompetitionRegistrationRequestDTO request,
+            @CurrentUser String studentId) {
         if (studentId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new MessageResponse("Unauthorized"));
         }
@@ -84,12 +81,4 @@ public class CompetitionRegistrationController {
             return ResponseEntity.badRequest().body(new MessageResponse(ex.getMessage()));
         }
     }
-
-    private String currentUserId() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth != null && auth.getPrincipal() instanceof UserDetailsImpl principal) {
-            return principal.getId();
-        }
-        return null;
-    }
 }
@@ -1,7 +1,9 @@
 package com.project.Backend.CompetitionRegistration;
 
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
 public interface CompetitionRegistrationRepository
                 extends MongoRepository<CompetitionRegistration, String> {
@@ -42,4 +44,9 @@ public interface CompetitionRegistrationRepository
                         String competitionId,
                         String studentId,
                         RegistrationStatus status);
+
+        @Query(value = "{ 'competitionId': ?0, 'studentId': { $in: ?1 } }", fields = "{ 'studentId': 1 }")
+        List<CompetitionRegistration> findStudentIdsByCompetitionIdAndStudentIdIn(
+                        String competitionId,
+                        Collection<String> studentIds);
 }
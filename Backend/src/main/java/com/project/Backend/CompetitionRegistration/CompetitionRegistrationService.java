@@ -1,16 +1,41 @@
 package com.project.Backend.CompetitionRegistration;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 import com.project.Backend.Competition.Competition;
-import com.project.Backend.Competition.CompetitionRepository;
+import com.project.Backend.Competition.CompetitionCache;
+import com.project.Backend.Competition.CompetitionPhaseScheduler;
 import com.project.Backend.CompetitionRegistration.RequestDTO.CompetitionRegistrationRequestDTO;
+import com.project.Backend.CompetitionRegistration.ResponseDTO.BulkEnrolmentResponseDTO;
+import com.project.Backend.CompetitionRegistration.ResponseDTO.BulkEnrolmentResponseDTO.RowResult;
 import com.project.Backend.CompetitionRegistration.ResponseDTO.CompetitionRegistrationResponseDTO;
 import com.project.Backend.Team.Team;
 import com.project.Backend.Team.TeamRepository;
 import com.project.Backend.Team.TeamStatus;
+import com.project.Backend.User.Role;
+import com.project.Backend.User.User;
+import com.project.Backend.User.UserRepository;
+
+import com.mongodb.bulk.BulkWriteError;
 
 import lombok.RequiredArgsConstructor;
 
@@ -18,9 +43,18 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CompetitionRegistrationService {
 
-        private final CompetitionRepository competitionRepository;
+        private static final Logger logger = LoggerFactory.getLogger(CompetitionRegistrationService.class);
+
+        private static final int MAX_BULK_ENROLMENT = 5000;
+
+        private final CompetitionCache competitionCache;
+        private final CompetitionPhaseScheduler phaseScheduler;
         private final CompetitionRegistrationRepository registrationRepository;
         private final TeamRepository teamRepository;
+        private final MongoTemplate mongoTemplate;
+        private final SeatAllocator seatAllocator;
+        private final UserRepository userRepository;
+        private final Clock clock;
 
         public CompetitionRegistrationResponseDTO register(
                         CompetitionRegistrationRequestDTO dto,
@@ -29,11 +63,10 @@ public class CompetitionRegistrationService {
                         throw new IllegalArgumentException("Request body is required");
                 }
 
-                Competition competition = competitionRepository.findById(dto.competitionId())
+                Competition competition = competitionCache.findById(dto.competitionId())
                                 .orElseThrow(() -> new IllegalArgumentException("Competition not found"));
 
-                if (competition.getRegistrationDeadline() != null
-                                && LocalDateTime.now().isAfter(competition.getRegistrationDeadline())) {
+                if (!phaseScheduler.isRegistrationOpen(competition)) {
                         throw new IllegalStateException("Registration deadline passed");
                 }
 
@@ -50,17 +83,20 @@ public class CompetitionRegistrationService {
                                                 "Team not allowed for individual competition");
                         }
 
-                        if (registrationRepository
-                                        .existsByCompetitionIdAndStudentId(dto.competitionId(), studentId)) {
-                                throw new IllegalStateException("Already registered");
-                        }
-
                         CompetitionRegistration reg = CompetitionRegistrationMapper.newIndividual(
                                         dto.competitionId(),
                                         studentId);
 
-                        return CompetitionRegistrationMapper.toResponse(
-                                        registrationRepository.save(reg));
+                        reserveSeat(competition);
+
+                        // The unique (competitionId, studentId) index rejects repeats atomically.
+                        try {
+                                return CompetitionRegistrationMapper.toResponse(
+                                                registrationRepository.insert(reg));
+                        } catch (DuplicateKeyException ex) {
+                                seatAllocator.release(competition);
+                                throw new IllegalStateException("Already registered");
+                        }
                 }
 
                 if (!"TEAM".equalsIgnoreCase(type)) {
@@ -87,16 +123,187 @@ public class CompetitionRegistrationService {
                         throw new IllegalStateException("Team is not active");
                 }
 
-                if (registrationRepository
-                                .existsByCompetitionIdAndTeamId(dto.competitionId(), team.getTeamId())) {
-                        throw new IllegalStateException("Team already registered");
-                }
-
                 CompetitionRegistration reg = CompetitionRegistrationMapper.newTeam(
                                 dto.competitionId(),
                                 team.getTeamId());
 
-                return CompetitionRegistrationMapper.toResponse(
-                                registrationRepository.save(reg));
+                reserveSeat(competition);
+
+                try {
+                        return CompetitionRegistrationMapper.toResponse(
+                                        registrationRepository.insert(reg));
+                } catch (DuplicateKeyException ex) {
+                        seatAllocator.release(competition);
+                        throw new IllegalStateException("Team already registered");
+                }
+        }
+
+        /**
+         * Registers a list of students, given by id or email, for an
+         * individual competition owned by the teacher. One query resolves the
+         * users, one finds existing registrations and one unordered bulk
+         * write inserts the rest.
+         */
+        public BulkEnrolmentResponseDTO enrolStudents(
+                        String competitionId,
+                        String teacherId,
+                        List<String> students) {
+                if (students == null || students.isEmpty()) {
+                        throw new IllegalArgumentException("At least one student is required");
+                }
+                if (students.size() > MAX_BULK_ENROLMENT) {
+                        throw new IllegalArgumentException(
+                                        "At most " + MAX_BULK_ENROLMENT + " students can be enrolled per request");
+                }
+
+                Competition competition = competitionCache.findById(competitionId)
+                                .orElseThrow(() -> new IllegalArgumentException("Competition not found"));
+                if (teacherId == null || !teacherId.equals(competition.getCreatedBy())) {
+                        throw new IllegalStateException("Not authorized");
+                }
+                if (!"INDIVIDUAL".equalsIgnoreCase(competition.getParticipationType())) {
+                        throw new IllegalStateException("Bulk enrolment is only available for individual competitions");
+                }
+                if (!phaseScheduler.isRegistrationOpen(competition)) {
+                        throw new IllegalStateException("Registration deadline passed");
+                }
+
+                List<RowResult> skipped = new ArrayList<>();
+                List<RowResult> failed = new ArrayList<>();
+
+                Set<String> ids = new HashSet<>();
+                Set<String> emails = new HashSet<>();
+                List<String> entries = new ArrayList<>();
+                Set<String> seenEntries = new HashSet<>();
+                for (String raw : students) {
+                        String entry = raw == null ? "" : raw.trim();
+                        if (entry.isEmpty()) {
+                                failed.add(new RowResult(raw, "Blank entry"));
+                        } else if (!seenEntries.add(entry)) {
+                                skipped.add(new RowResult(entry, "Duplicate entry"));
+                        } else {
+                                entries.add(entry);
+                                (entry.contains("@") ? emails : ids).add(entry);
+                        }
+                }
+
+                Map<String, User> usersByKey = new HashMap<>();
+                for (User user : userRepository.findByIdInOrEmailIn(ids, emails)) {
+                        usersByKey.put(user.getId(), user);
+                        if (user.getEmail() != null) {
+                                usersByKey.put(user.getEmail(), user);
+                        }
+                }
+
+                // entry -> student id, in request order
+                Map<String, String> candidates = new LinkedHashMap<>();
+                Set<String> candidateIds = new HashSet<>();
+                for (String entry : entries) {
+                        User user = usersByKey.get(entry);
+                        if (user == null) {
+                                failed.add(new RowResult(entry, "User not found"));
+                        } else if (user.getRoles() == null || !user.getRoles().contains(Role.ROLE_STUDENT)) {
+                                failed.add(new RowResult(entry, "Not a student"));
+                        } else if (!candidateIds.add(user.getId())) {
+                                skipped.add(new RowResult(entry, "Duplicate entry"));
+                        } else {
+                                candidates.put(entry, user.getId());
+                        }
+                }
+
+                Set<String> alreadyRegistered = new HashSet<>();
+                if (!candidateIds.isEmpty()) {
+                        registrationRepository
+                                        .findStudentIdsByCompetitionIdAndStudentIdIn(competitionId, candidateIds)
+                                        .forEach(r -> alreadyRegistered.add(r.getStudentId()));
+                }
+
+                List<String> toEnrol = new ArrayList<>();
+                candidates.forEach((entry, studentId) -> {
+                        if (alreadyRegistered.contains(studentId)) {
+                                skipped.add(new RowResult(entry, "Already registered"));
+                        } else {
+                                toEnrol.add(entry);
+                        }
+                });
+
+                int seats = seatAllocator.tryReserveUpTo(competition, toEnrol.size());
+                for (String entry : toEnrol.subList(seats, toEnrol.size())) {
+                        failed.add(new RowResult(entry, "Competition is full"));
+                }
+                List<String> admitted = toEnrol.subList(0, seats);
+
+                List<CompetitionRegistration> registrations = admitted.stream()
+                                .map(entry -> CompetitionRegistrationMapper.newIndividual(
+                                                competitionId,
+                                                candidates.get(entry)))
+                                .toList();
+
+                Set<Integer> rejectedRows = new HashSet<>();
+                if (!registrations.isEmpty()) {
+                        try {
+                                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CompetitionRegistration.class)
+                                                .insert(registrations)
+                                                .execute();
+                        } catch (BulkOperationException ex) {
+                                for (BulkWriteError error : ex.getErrors()) {
+                                        rejectedRows.add(error.getIndex());
+                                        String entry = admitted.get(error.getIndex());
+                                        // 11000: registered concurrently through another path
+                                        if (error.getCode() == 11000) {
+                                                skipped.add(new RowResult(entry, "Already registered"));
+                                        } else {
+                                                failed.add(new RowResult(entry, "Insert failed"));
+                                        }
+                                }
+                                seatAllocator.release(competition, rejectedRows.size());
+                        }
+                }
+
+                List<String> enrolled = new ArrayList<>();
+                for (int i = 0; i < admitted.size(); i++) {
+                        if (!rejectedRows.contains(i)) {
+                                enrolled.add(candidates.get(admitted.get(i)));
+                        }
+                }
+                return new BulkEnrolmentResponseDTO(students.size(), enrolled, skipped, failed);
+        }
+
+        private void reserveSeat(Competition competition) {
+                if (!seatAllocator.tryReserve(competition)) {
+                        throw new IllegalStateException("Competition is full");
+                }
+        }
+
+        /**
+         * Registers a team that just became active. A cancelled registration
+         * is reactivated; an active one is left alone.
+         */
+        public void ensureTeamRegistered(Competition competition, String teamId) {
+                String competitionId = competition.getCompetitionId();
+                if (registrationRepository.existsByCompetitionIdAndTeamIdAndStatus(
+                                competitionId, teamId, RegistrationStatus.REGISTERED)) {
+                        return;
+                }
+                if (!seatAllocator.tryReserve(competition)) {
+                        // The team stays active; the leader can register once a seat frees up.
+                        logger.warn("Competition {} is full, team {} was not registered", competitionId, teamId);
+                        return;
+                }
+                try {
+                        registrationRepository.insert(CompetitionRegistrationMapper.newTeam(competitionId, teamId));
+                } catch (DuplicateKeyException ex) {
+                        long reactivated = mongoTemplate.updateFirst(
+                                        Query.query(Criteria.where("competitionId").is(competitionId)
+                                                        .and("teamId").is(teamId)
+                                                        .and("status").is(RegistrationStatus.CANCELLED)),
+                                        new Update()
+                                                        .set("status", RegistrationStatus.REGISTERED)
+                                                        .set("registeredAt", LocalDateTime.now(clock)),
+                                        CompetitionRegistration.class).getModifiedCount();
+                        if (reactivated == 0) {
+                                seatAllocator.release(competition);
+                        }
+                }
         }
 }
@@ -0,0 +1,19 @@
+package com.project.Backend.CompetitionRegistration;
+
+/**
+ * Thrown when every export slot is taken. Mapped to 503 with a Retry-After
+ * header by the global exception handler.
+ */
+public class RegistrationExportBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RegistrationExportBusyException(long retryAfterSeconds) {
+        super("Too many exports in progress, please retry shortly");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,70 @@
+package com.project.Backend.CompetitionRegistration;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.project.Backend.Auth.security.CurrentUser;
+import com.project.Backend.Auth.security.services.UserDetailsImpl;
+import com.project.Backend.CompetitionRegistration.RegistrationExportService.Format;
+import com.project.Backend.User.ResponseDTO.MessageResponse;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@PreAuthorize("hasAnyRole('TEACHER', 'ADMIN')")
+@RequiredArgsConstructor
+public class RegistrationExportController {
+
+    private final RegistrationExportService exportService;
+    private final RegistrationExportExecutor exportExecutor;
+
+    /**
+     * Streams the registrants of a competition. The body is written on the
+     * export pool with the export timeout, so the servlet thread is released
+     * immediately. Returns a ResponseEntity for errors and a WebAsyncTask
+     * for the export itself.
+     */
+    @GetMapping("/teacher/competitions/{competitionId}/registrations/export")
+    public Object exportRegistrations(
+            @PathVariable String competitionId,
+            @RequestParam(defaultValue = "csv") String format,
+            @CurrentUser UserDetailsImpl user,
+            HttpServletResponse response) {
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new MessageResponse("Unauthorized"));
+        }
+        boolean admin = user.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        try {
+            Format exportFormat = Format.parse(format);
+            MediaType contentType = exportFormat == Format.CSV
+                    ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                    : MediaType.parseMediaType("application/x-ndjson");
+            String filename = "registrations-" + competitionId.replaceAll("[^A-Za-z0-9_-]", "_")
+                    + (exportFormat == Format.CSV ? ".csv" : ".ndjson");
+            StreamingResponseBody body = exportService.export(competitionId, user.getId(), admin, exportFormat);
+            return exportExecutor.task(() -> {
+                // Headers are only set once the export runs, so a timeout
+                // before it starts can still be answered with a JSON error.
+                response.setContentType(contentType.toString());
+                response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+                body.writeTo(response.getOutputStream());
+                response.flushBuffer();
+                return null;
+            });
+        } catch (IllegalStateException | IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(new MessageResponse(ex.getMessage()));
+        }
+    }
+}
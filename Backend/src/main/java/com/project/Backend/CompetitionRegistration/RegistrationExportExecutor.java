@@ -0,0 +1,111 @@
+package com.project.Backend.CompetitionRegistration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import com.project.Backend.Metrics.MetricsSource;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Dedicated pool for streaming registration exports. A large export to a
+ * slow client can hold a thread for minutes, so exports neither run on the
+ * shared application task executor nor widen the MVC async timeout for
+ * every other request: each export carries its own timeout.
+ *
+ * At most {@code threads + queueCapacity} exports are admitted at once;
+ * beyond that requests fail fast with {@link RegistrationExportBusyException}.
+ * The pool's own queue is unbounded because admission already bounds it.
+ */
+@Component
+public class RegistrationExportExecutor implements MetricsSource {
+
+    private final ThreadPoolExecutor executor;
+    private final AsyncTaskExecutor taskExecutor;
+    private final Semaphore slots;
+    private final long timeoutMillis;
+    private final long retryAfterSeconds;
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public RegistrationExportExecutor(
+            @Value("${competition.app.registrationExportThreads:4}") int threads,
+            @Value("${competition.app.registrationExportQueueCapacity:16}") int queueCapacity,
+            @Value("${competition.app.registrationExportTimeoutMs:600000}") long timeoutMillis,
+            @Value("${competition.app.registrationExportRetryAfterSeconds:30}") long retryAfterSeconds) {
+        int poolSize = Math.max(1, threads);
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                threadFactory());
+        this.taskExecutor = new TaskExecutorAdapter(executor);
+        this.slots = new Semaphore(poolSize + Math.max(0, queueCapacity));
+        this.timeoutMillis = timeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Wraps an export in an async task bound to this pool and the export
+     * timeout. The slot is taken here, on the request thread, and given back
+     * once the async request completes, times out or fails.
+     */
+    public <T> WebAsyncTask<T> task(Callable<T> export) {
+        if (!slots.tryAcquire()) {
+            rejected.increment();
+            throw new RegistrationExportBusyException(retryAfterSeconds);
+        }
+        admitted.increment();
+        WebAsyncTask<T> task = new WebAsyncTask<>(timeoutMillis, taskExecutor, export);
+        task.onCompletion(slots::release);
+        return task;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public String metricsName() {
+        return "registrationExports";
+    }
+
+    @Override
+    public Map<String, Object> metrics() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("threads", executor.getMaximumPoolSize());
+        out.put("active", executor.getActiveCount());
+        out.put("queueDepth", executor.getQueue().size());
+        out.put("freeSlots", slots.availablePermits());
+        out.put("admitted", admitted.sum());
+        out.put("rejected", rejected.sum());
+        return out;
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "registration-export-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
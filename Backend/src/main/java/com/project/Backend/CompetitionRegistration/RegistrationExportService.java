@@ -0,0 +1,215 @@
+package com.project.Backend.CompetitionRegistration;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.Backend.Competition.Competition;
+import com.project.Backend.Competition.CompetitionCache;
+import com.project.Backend.Team.Team;
+import com.project.Backend.User.User;
+
+/**
+ * Streams the registrations of a competition as CSV or NDJSON.
+ *
+ * Registrations are read through a Mongo cursor and written in batches: for
+ * each batch the referenced teams and students are loaded with one
+ * projected {@code $in} query each, the rows are written and the batch is
+ * dropped, so memory stays flat regardless of the number of registrants.
+ */
+@Service
+public class RegistrationExportService {
+
+    public enum Format {
+        CSV, NDJSON;
+
+        public static Format parse(String value) {
+            if (value == null || value.isBlank() || "csv".equalsIgnoreCase(value)) {
+                return CSV;
+            }
+            if ("ndjson".equalsIgnoreCase(value)) {
+                return NDJSON;
+            }
+            throw new IllegalArgumentException("Unsupported export format: " + value);
+        }
+    }
+
+    private static final List<String> COLUMNS = List.of(
+            "registrationId", "status", "registeredAt", "teamRegistration",
+            "studentId", "studentName", "studentEmail", "teamId", "teamName");
+
+    private final MongoTemplate mongoTemplate;
+    private final CompetitionCache competitionCache;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public RegistrationExportService(
+            MongoTemplate mongoTemplate,
+            CompetitionCache competitionCache,
+            ObjectMapper objectMapper,
+            @Value("${competition.app.registrationExportBatchSize:500}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.competitionCache = competitionCache;
+        this.objectMapper = objectMapper;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Validates access eagerly and returns a body that writes the export
+     * when the container runs it.
+     */
+    public StreamingResponseBody export(String competitionId, String requesterId, boolean admin, Format format) {
+        Competition competition = competitionCache.findById(competitionId)
+                .orElseThrow(() -> new IllegalArgumentException("Competition not found"));
+        if (!admin && (requesterId == null || !requesterId.equals(competition.getCreatedBy()))) {
+            throw new IllegalStateException("Not authorized");
+        }
+
+        return out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            if (format == Format.CSV) {
+                writeCsvLine(writer, COLUMNS);
+            }
+            Query query = new Query(Criteria.where("competitionId").is(competitionId))
+                    .with(Sort.by(Sort.Direction.ASC, "_id"))
+                    .cursorBatchSize(batchSize);
+            List<CompetitionRegistration> batch = new ArrayList<>(batchSize);
+            try (Stream<CompetitionRegistration> registrations =
+                    mongoTemplate.stream(query, CompetitionRegistration.class)) {
+                var iterator = registrations.iterator();
+                while (iterator.hasNext()) {
+                    batch.add(iterator.next());
+                    if (batch.size() == batchSize) {
+                        writeBatch(writer, batch, format);
+                        batch.clear();
+                    }
+                }
+            }
+            writeBatch(writer, batch, format);
+            writer.flush();
+        };
+    }
+
+    private void writeBatch(Writer writer, List<CompetitionRegistration> batch, Format format) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Set<String> studentIds = new HashSet<>();
+        Set<String> teamIds = new HashSet<>();
+        for (CompetitionRegistration registration : batch) {
+            if (registration.getStudentId() != null) {
+                studentIds.add(registration.getStudentId());
+            }
+            if (registration.getTeamId() != null) {
+                teamIds.add(registration.getTeamId());
+            }
+        }
+        Map<String, User> students = loadStudents(studentIds);
+        Map<String, String> teamNames = loadTeamNames(teamIds);
+
+        for (CompetitionRegistration registration : batch) {
+            User student = students.get(registration.getStudentId());
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("registrationId", registration.getId());
+            row.put("status", registration.getStatus() != null ? registration.getStatus().name() : null);
+            row.put("registeredAt",
+                    registration.getRegisteredAt() != null ? registration.getRegisteredAt().toString() : null);
+            row.put("teamRegistration", registration.isTeamRegistration());
+            row.put("studentId", registration.getStudentId());
+            row.put("studentName", student != null ? displayName(student) : null);
+            row.put("studentEmail", student != null ? student.getEmail() : null);
+            row.put("teamId", registration.getTeamId());
+            row.put("teamName", teamNames.get(registration.getTeamId()));
+
+            if (format == Format.NDJSON) {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            } else {
+                List<String> values = new ArrayList<>(COLUMNS.size());
+                for (String column : COLUMNS) {
+                    Object value = row.get(column);
+                    values.add(value != null ? value.toString() : "");
+                }
+                writeCsvLine(writer, values);
+            }
+        }
+        writer.flush();
+    }
+
+    private Map<String, User> loadStudents(Set<String> studentIds) {
+        Map<String, User> students = new HashMap<>();
+        if (studentIds.isEmpty()) {
+            return students;
+        }
+        Query query = new Query(Criteria.where("_id").in(studentIds));
+        query.fields().include("username", "fullName", "email");
+        for (User user : mongoTemplate.find(query, User.class)) {
+            students.put(user.getId(), user);
+        }
+        return students;
+    }
+
+    private Map<String, String> loadTeamNames(Set<String> teamIds) {
+        Map<String, String> names = new HashMap<>();
+        if (teamIds.isEmpty()) {
+            return names;
+        }
+        Query query = new Query(Criteria.where("_id").in(teamIds));
+        query.fields().include("teamName");
+        for (Team team : mongoTemplate.find(query, Team.class)) {
+            names.put(team.getTeamId(), team.getTeamName());
+        }
+        return names;
+    }
+
+    private static String displayName(User user) {
+        return user.getFullName() != null && !user.getFullName().isBlank()
+                ? user.getFullName()
+                : user.getUsername();
+    }
+
+    private static void writeCsvLine(Writer writer, List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvEscape(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String csvEscape(String value) {
+        if (value.isEmpty()) {
+            return value;
+        }
+        // Neutralise spreadsheet formulas in user-provided text
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@') {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+}
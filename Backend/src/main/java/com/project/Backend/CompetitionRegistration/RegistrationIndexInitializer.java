@@ -0,0 +1,90 @@
+package com.project.Backend.CompetitionRegistration;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Creates the unique indexes that make registration idempotent: one
+ * registration per (competitionId, studentId) and per (competitionId,
+ * teamId). They are partial because each registration only carries one of
+ * the two ids.
+ *
+ * Created here rather than through annotations because duplicates left by
+ * the old check-then-save path would make the index build fail; those are
+ * removed first, keeping the active (then earliest) registration.
+ *
+ * Runs once all singletons exist, before the web server accepts requests,
+ * and fails startup if an index cannot be built: without them registration
+ * is no longer idempotent.
+ */
+@Component
+@RequiredArgsConstructor
+public class RegistrationIndexInitializer implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegistrationIndexInitializer.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        ensureUnique("studentId", "competition_student_unique");
+        ensureUnique("teamId", "competition_team_unique");
+        // Whole-competition scans: the roster export (sorted by _id) and seat counts.
+        try {
+            mongoTemplate.indexOps(CompetitionRegistration.class).createIndex(new Index()
+                    .named("competition_id")
+                    .on("competitionId", Sort.Direction.ASC)
+                    .on("_id", Sort.Direction.ASC));
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Unable to create registration index competition_id", e);
+        }
+    }
+
+    private void ensureUnique(String participantField, String indexName) {
+        try {
+            removeDuplicates(participantField);
+            mongoTemplate.indexOps(CompetitionRegistration.class).createIndex(new Index()
+                    .named(indexName)
+                    .on("competitionId", Sort.Direction.ASC)
+                    .on(participantField, Sort.Direction.ASC)
+                    .unique()
+                    .partial(PartialIndexFilter.of(Criteria.where(participantField).type(2))));
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Unable to create registration index " + indexName, e);
+        }
+    }
+
+    private void removeDuplicates(String participantField) {
+        Aggregation duplicates = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where(participantField).type(2)),
+                Aggregation.group("competitionId", participantField).push("_id").as("ids").count().as("count"),
+                Aggregation.match(Criteria.where("count").gt(1)));
+        for (Document group : mongoTemplate.aggregate(duplicates, CompetitionRegistration.class, Document.class)) {
+            List<?> ids = group.getList("ids", Object.class);
+            List<CompetitionRegistration> registrations = mongoTemplate.find(
+                    Query.query(Criteria.where("_id").in(ids)), CompetitionRegistration.class);
+            registrations.sort(Comparator
+                    .comparing((CompetitionRegistration r) -> r.getStatus() != RegistrationStatus.REGISTERED)
+                    .thenComparing(CompetitionRegistration::getRegisteredAt,
+                            Comparator.nullsLast(Comparator.naturalOrder())));
+            List<String> extra = registrations.stream().skip(1).map(CompetitionRegistration::getId).toList();
+            mongoTemplate.remove(Query.query(Criteria.where("_id").in(extra)), CompetitionRegistration.class);
+            logger.warn("Removed duplicate registrations {} (kept {})", extra, registrations.get(0).getId());
+        }
+    }
+}
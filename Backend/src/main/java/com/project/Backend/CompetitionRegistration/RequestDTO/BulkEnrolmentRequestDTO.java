@@ -0,0 +1,8 @@
+package com.project.Backend.CompetitionRegistration.RequestDTO;
+
+import java.util.List;
+
+public record BulkEnrolmentRequestDTO(
+        List<String> students // user ids or emails, mixed freely
+) {
+}
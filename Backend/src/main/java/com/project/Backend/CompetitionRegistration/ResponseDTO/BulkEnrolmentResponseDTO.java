@@ -0,0 +1,14 @@
+package com.project.Backend.CompetitionRegistration.ResponseDTO;
+
+import java.util.List;
+
+public record BulkEnrolmentResponseDTO(
+        int requested,
+        List<String> enrolledStudentIds,
+        List<RowResult> skipped, // already registered or repeated in the request
+        List<RowResult> failed // unknown, not a student, or no seat left
+) {
+
+    public record RowResult(String student, String reason) {
+    }
+}
@@ -0,0 +1,270 @@
+package com.project.Backend.CompetitionRegistration;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.project.Backend.Competition.Competition;
+import com.project.Backend.Metrics.MetricsSource;
+
+/**
+ * Admission control for competitions with {@code maxParticipants}.
+ *
+ * The authoritative count is a {@link SeatCounter} document incremented with
+ * a conditional {@code $inc} (only while below the cap), so concurrent
+ * registrations can never overshoot. Each node mirrors the counts it has
+ * seen in striped counters and rejects locally, without a round trip, while
+ * the mirror says a competition is full and is fresh.
+ *
+ * A background reconciler re-counts the registrations of capped
+ * competitions and corrects counters that drifted, e.g. after a crash
+ * between reserving a seat and writing the registration.
+ */
+@Component
+public class SeatAllocator implements MetricsSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatAllocator.class);
+
+    private record Mirror(LongAdder taken, long syncedAtMillis) {
+    }
+
+    private record Drift(long counted, long stored) {
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final long mirrorTtlMillis;
+
+    private final ConcurrentHashMap<String, Mirror> mirrors = new ConcurrentHashMap<>();
+    private final Set<String> initialized = ConcurrentHashMap.newKeySet();
+    // Drift seen by the previous reconciliation pass, per competition.
+    private final Map<String, Drift> previousDrift = new HashMap<>();
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejectedLocally = new LongAdder();
+    private final LongAdder rejectedByCounter = new LongAdder();
+    private final LongAdder corrections = new LongAdder();
+
+    public SeatAllocator(
+            MongoTemplate mongoTemplate,
+            @Value("${competition.app.seatMirrorTtlMs:2000}") long mirrorTtlMillis) {
+        this.mongoTemplate = mongoTemplate;
+        this.mirrorTtlMillis = mirrorTtlMillis;
+    }
+
+    /**
+     * Takes one seat, or returns false if the competition is full.
+     * Competitions without a cap always succeed.
+     */
+    public boolean tryReserve(Competition competition) {
+        Integer cap = competition.getMaxParticipants();
+        if (cap == null) {
+            return true;
+        }
+        String id = competition.getCompetitionId();
+        Mirror mirror = mirrors.get(id);
+        if (mirror != null && mirror.taken().sum() >= cap
+                && System.currentTimeMillis() - mirror.syncedAtMillis() < mirrorTtlMillis) {
+            rejectedLocally.increment();
+            return false;
+        }
+
+        ensureCounter(id);
+        SeatCounter updated = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(id).and("taken").lt(cap)),
+                new Update().inc("taken", 1),
+                FindAndModifyOptions.options().returnNew(true),
+                SeatCounter.class);
+        if (updated == null) {
+            rejectedByCounter.increment();
+            sync(id, cap);
+            return false;
+        }
+        admitted.increment();
+        sync(id, updated.getTaken());
+        return true;
+    }
+
+    /**
+     * Takes up to {@code requested} seats at once and returns how many were
+     * granted; all of them for competitions without a cap.
+     */
+    public int tryReserveUpTo(Competition competition, int requested) {
+        Integer cap = competition.getMaxParticipants();
+        if (cap == null || requested <= 0) {
+            return Math.max(0, requested);
+        }
+        String id = competition.getCompetitionId();
+        ensureCounter(id);
+        // One atomic step: taken = min(cap, taken + requested), returning the old value.
+        AggregationUpdate takeSeats = AggregationUpdate.from(List.of(context -> new Document("$set",
+                new Document("taken", new Document("$min", List.of(
+                        (long) cap,
+                        new Document("$add", List.of("$taken", (long) requested))))))));
+        SeatCounter before = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(id).and("taken").lt(cap)),
+                takeSeats,
+                FindAndModifyOptions.options().returnNew(false),
+                SeatCounter.class);
+        if (before == null) {
+            rejectedByCounter.add(requested);
+            sync(id, cap);
+            return 0;
+        }
+        int granted = (int) Math.min(requested, cap - before.getTaken());
+        admitted.add(granted);
+        rejectedByCounter.add(requested - granted);
+        sync(id, before.getTaken() + granted);
+        return granted;
+    }
+
+    // Gives back a seat taken by tryReserve whose registration was not written.
+    public void release(Competition competition) {
+        release(competition, 1);
+    }
+
+    public void release(Competition competition, int seats) {
+        if (competition.getMaxParticipants() == null || seats <= 0) {
+            return;
+        }
+        String id = competition.getCompetitionId();
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(id).and("taken").gte(seats)),
+                new Update().inc("taken", -seats),
+                SeatCounter.class);
+        Mirror mirror = mirrors.get(id);
+        if (mirror != null) {
+            mirror.taken().add(-seats);
+        }
+    }
+
+    private void sync(String competitionId, long taken) {
+        LongAdder adder = new LongAdder();
+        adder.add(taken);
+        mirrors.put(competitionId, new Mirror(adder, System.currentTimeMillis()));
+    }
+
+    // First use of a counter starts it from the registrations already present.
+    private void ensureCounter(String competitionId) {
+        if (initialized.contains(competitionId)) {
+            return;
+        }
+        if (!mongoTemplate.exists(Query.query(Criteria.where("_id").is(competitionId)), SeatCounter.class)) {
+            try {
+                mongoTemplate.insert(new SeatCounter(competitionId, countRegistrations(competitionId)));
+            } catch (DuplicateKeyException ignored) {
+                // Another node created it first.
+            }
+        }
+        initialized.add(competitionId);
+    }
+
+    private long countRegistrations(String competitionId) {
+        return mongoTemplate.count(
+                Query.query(Criteria.where("competitionId").is(competitionId)
+                        .and("status").is(RegistrationStatus.REGISTERED)),
+                CompetitionRegistration.class);
+    }
+
+    /**
+     * Raises a counter below the real count at once. A counter above it is
+     * only lowered once the same drift is seen on two consecutive passes,
+     * since a seat reserved just before the count was taken may still have
+     * its registration in flight.
+     */
+    @Scheduled(
+            fixedDelayString = "${competition.app.seatReconcileMs:60000}",
+            initialDelayString = "${competition.app.seatReconcileMs:60000}")
+    public synchronized void reconcile() {
+        try {
+            Query cappedQuery = Query.query(Criteria.where("maxParticipants").ne(null));
+            cappedQuery.fields().include("_id");
+            List<Competition> capped = mongoTemplate.find(cappedQuery, Competition.class);
+            if (capped.isEmpty()) {
+                previousDrift.clear();
+                return;
+            }
+            List<String> ids = capped.stream().map(Competition::getCompetitionId).toList();
+
+            Map<String, Long> stored = new HashMap<>();
+            mongoTemplate.find(Query.query(Criteria.where("_id").in(ids)), SeatCounter.class)
+                    .forEach(c -> stored.put(c.getCompetitionId(), c.getTaken()));
+
+            Map<String, Long> counted = new HashMap<>();
+            Aggregation countByCompetition = Aggregation.newAggregation(
+                    Aggregation.match(Criteria.where("competitionId").in(ids)
+                            .and("status").is(RegistrationStatus.REGISTERED)),
+                    Aggregation.group("competitionId").count().as("count"));
+            for (Document row : mongoTemplate.aggregate(countByCompetition, CompetitionRegistration.class,
+                    Document.class)) {
+                counted.put(row.getString("_id"), ((Number) row.get("count")).longValue());
+            }
+
+            Map<String, Drift> drift = new HashMap<>();
+            for (String id : stored.keySet()) {
+                long actual = counted.getOrDefault(id, 0L);
+                long current = stored.get(id);
+                if (actual == current) {
+                    continue;
+                }
+                Drift seen = new Drift(actual, current);
+                if (actual > current || seen.equals(previousDrift.get(id))) {
+                    correct(id, current, actual);
+                } else {
+                    drift.put(id, seen);
+                }
+            }
+            previousDrift.clear();
+            previousDrift.putAll(drift);
+        } catch (Exception e) {
+            logger.warn("Seat reconciliation failed: {}", e.getMessage());
+        }
+    }
+
+    private void correct(String competitionId, long expected, long actual) {
+        // Conditional on the value we read, so concurrent admissions are not overwritten.
+        long matched = mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(competitionId).and("taken").is(expected)),
+                new Update().set("taken", actual),
+                SeatCounter.class).getMatchedCount();
+        if (matched > 0) {
+            corrections.increment();
+            mirrors.remove(competitionId);
+            logger.info("Seat counter for competition {} corrected from {} to {}", competitionId, expected, actual);
+        }
+    }
+
+    @Override
+    public String metricsName() {
+        return "seatAllocator";
+    }
+
+    @Override
+    public Map<String, Object> metrics() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("admitted", admitted.sum());
+        out.put("rejectedLocally", rejectedLocally.sum());
+        out.put("rejectedByCounter", rejectedByCounter.sum());
+        out.put("corrections", corrections.sum());
+        out.put("mirroredCompetitions", mirrors.size());
+        return out;
+    }
+}
@@ -0,0 +1,21 @@
+package com.project.Backend.CompetitionRegistration;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Seats taken in a capped competition; one document per competition.
+@Document(collection = "competition_seats")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SeatCounter {
+
+    @Id
+    private String competitionId;
+
+    private long taken;
+}
@@ -0,0 +1,16 @@
+package com.project.Backend.Config;
+
+import java.time.Clock;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ClockConfig {
+
+    // Inject this instead of calling now() directly so time can be simulated.
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
@@ -3,7 +3,7 @@ package com.project.Backend.Evaluation;
 import org.springframework.stereotype.Service;
 
 import com.project.Backend.Competition.Competition;
-import com.project.Backend.Competition.CompetitionRepository;
+import com.project.Backend.Competition.CompetitionCache;
 import com.project.Backend.Evaluation.DTO.EvaluationRequestDTO;
 import com.project.Backend.Evaluation.DTO.EvaluationResponseDTO;
 import com.project.Backend.Submission.Submission;
@@ -17,7 +17,7 @@ import lombok.RequiredArgsConstructor;
 public class EvaluationService {
 
     private final SubmissionRepository submissionRepository;
-    private final CompetitionRepository competitionRepository;
+    private final CompetitionCache competitionCache;
     private final EvaluationMapper evaluationMapper;
 
     public EvaluationResponseDTO evaluateSubmission(String submissionId, EvaluationRequestDTO dto, String teacherId) {
@@ -32,7 +32,7 @@ public class EvaluationService {
             throw new IllegalStateException("Submission cannot be evaluated in current status");
         }
 
-        Competition competition = competitionRepository.findById(submission.getCompetitionId())
+        Competition competition = competitionCache.findById(submission.getCompetitionId())
                 .orElseThrow(() -> new IllegalArgumentException("Competition not found"));
 
         if (!"INTERNAL".equalsIgnoreCase(competition.getCompetitionType())) {
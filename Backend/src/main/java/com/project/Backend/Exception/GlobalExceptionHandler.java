@@ -1,6 +1,9 @@
 package com.project.Backend.Exception;
 
+import com.project.Backend.Auth.security.PasswordHashingBusyException;
+import com.project.Backend.CompetitionRegistration.RegistrationExportBusyException;
 import com.project.Backend.User.ResponseDTO.MessageResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -17,6 +20,22 @@ public class GlobalExceptionHandler {
                 .body(new MessageResponse("Error: Invalid email or password!"));
     }
     
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<?> handlePasswordHashingBusyException(PasswordHashingBusyException ex) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(new MessageResponse("Error: " + ex.getMessage()));
+    }
+
+    @ExceptionHandler(RegistrationExportBusyException.class)
+    public ResponseEntity<?> handleRegistrationExportBusyException(RegistrationExportBusyException ex) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(new MessageResponse("Error: " + ex.getMessage()));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> handleGlobalException(Exception ex) {
         return ResponseEntity
@@ -0,0 +1,31 @@
+package com.project.Backend.Metrics;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/metrics")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class MetricsController {
+
+    private final List<MetricsSource> sources;
+
+    @GetMapping
+    public ResponseEntity<Map<String, Map<String, Object>>> snapshot() {
+        Map<String, Map<String, Object>> out = new LinkedHashMap<>();
+        for (MetricsSource source : sources) {
+            out.put(source.metricsName(), source.metrics());
+        }
+        return ResponseEntity.ok(out);
+    }
+}
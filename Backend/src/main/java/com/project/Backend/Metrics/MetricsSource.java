@@ -0,0 +1,14 @@
+package com.project.Backend.Metrics;
+
+import java.util.Map;
+
+/**
+ * Implemented by in-process components (caches, executors, limiters) that
+ * publish counters through {@link MetricsController}.
+ */
+public interface MetricsSource {
+
+    String metricsName();
+
+    Map<String, Object> metrics();
+}
@@ -2,8 +2,7 @@ package com.project.Backend.MyExternalParticipation;
 
 import com.project.Backend.User.ResponseDTO.MessageResponse;
 import com.project.Backend.User.UserRepository;
-import com.project.Backend.Auth.security.jwt.JwtUtils;
-import com.project.Backend.Auth.security.services.UserDetailsImpl;
+import com.project.Backend.Auth.security.CurrentUser;
 import com.project.Backend.Notification.NotificationType;
 import com.project.Backend.Notification.NotificationService;
 import com.project.Backend.User.Role;
@@ -15,12 +14,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.mongodb.gridfs.GridFsTemplate;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -28,7 +23,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import jakarta.servlet.http.HttpServletRequest;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
 @RestController
@@ -37,8 +31,6 @@ public class ExternalParticipationController {
     @Autowired
     private ExternalParticipationRepository repository;
     @Autowired
-    private JwtUtils jwtUtils;
-    @Autowired
     private UserRepository userRepository;
     @Autowired
     private NotificationService notificationService;
@@ -46,43 +38,9 @@ public class ExternalParticipationController {
     @Autowired
     private GridFsTemplate gridFsTemplate;
 
-    private String currentUserId() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        try {
-            Object principalObj = auth.getPrincipal();
-            if (principalObj instanceof UserDetailsImpl principal) {
-                return principal.getId();
-            }
-        } catch (Exception ignored) {
-        }
-        try {
-            ServletRequestAttributes attrs = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-            if (attrs != null) {
-                HttpServletRequest req = attrs.getRequest();
-                String header = req.getHeader("Authorization");
-                if (header != null && header.startsWith("Bearer ")) {
-                    String token = header.substring(7);
-                    if (jwtUtils.validateJwtToken(token)) {
-                        String subject = jwtUtils.getUserNameFromJwtToken(token);
-                        Optional<User> userOpt = userRepository.findByUsername(subject);
-                        if (userOpt.isEmpty()) {
-                            userOpt = userRepository.findByEmail(subject);
-                        }
-                        if (userOpt.isPresent()) {
-                            return userOpt.get().getId();
-                        }
-                    }
-                }
-            }
-        } catch (Exception ignored) {
-        }
-        return null;
-    }
-
     @GetMapping
     @PreAuthorize("hasRole('STUDENT') or hasRole('ADMIN')")
-    public List<ExternalParticipation> listMine() {
-        String uid = currentUserId();
+    public List<ExternalParticipation> listMine(@CurrentUser String uid) {
         if (uid == null)
             return List.of();
         return repository.findByOwnerIdOrderBySubmittedAtDesc(uid);
@@ -90,20 +48,19 @@ public class ExternalParticipationController {
 
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('STUDENT') or hasRole('ADMIN')")
-    public ResponseEntity<?> getOne(@PathVariable String id) {
+    public ResponseEntity<?> getOne(@PathVariable String id, @CurrentUser String uid) {
         Optional<ExternalParticipation> opt = repository.findById(id);
         if (opt.isEmpty())
             return ResponseEntity.notFound().build();
         ExternalParticipation ep = opt.get();
-        if (!ep.getOwnerId().equals(currentUserId()))
+        if (!ep.getOwnerId().equals(uid))
             return ResponseEntity.status(403).build();
         return ResponseEntity.ok(ep);
     }
 
     @PostMapping
     @PreAuthorize("hasRole('STUDENT')")
-    public ResponseEntity<?> create(@RequestBody ExternalParticipation body) {
-        String uid = currentUserId();
+    public ResponseEntity<?> create(@RequestBody ExternalParticipation body, @CurrentUser String uid) {
         if (uid == null)
             return ResponseEntity.status(401).body(new MessageResponse("Unauthorized"));
         ExternalParticipation ep = new ExternalParticipation();
@@ -145,12 +102,12 @@ public class ExternalParticipationController {
 
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('STUDENT')")
-    public ResponseEntity<?> update(@PathVariable String id, @RequestBody ExternalParticipation body) {
+    public ResponseEntity<?> update(@PathVariable String id, @RequestBody ExternalParticipation body,
+            @CurrentUser String uid) {
         Optional<ExternalParticipation> opt = repository.findById(id);
         if (opt.isEmpty())
             return ResponseEntity.notFound().build();
         ExternalParticipation ep = opt.get();
-        String uid = currentUserId();
         if (uid == null)
             return ResponseEntity.status(401).body(new MessageResponse("Unauthorized"));
         if (!ep.getOwnerId().equals(uid))
@@ -188,12 +145,13 @@ public class ExternalParticipationController {
 
     @PostMapping("/{id}/proof")
     @PreAuthorize("hasRole('STUDENT')")
-    public ResponseEntity<?> uploadProof(@PathVariable String id, @RequestParam("file") MultipartFile file) {
+    public ResponseEntity<?> uploadProof(@PathVariable String id, @RequestParam("file") MultipartFile file,
+            @CurrentUser String uid) {
         Optional<ExternalParticipation> opt = repository.findById(id);
         if (opt.isEmpty())
             return ResponseEntity.notFound().build();
         ExternalParticipation ep = opt.get();
-        if (!ep.getOwnerId().equals(currentUserId()))
+        if (!ep.getOwnerId().equals(uid))
             return ResponseEntity.status(403).build();
         if (file.isEmpty()) {
             return ResponseEntity.badRequest().body(new MessageResponse("Error: Empty file"));
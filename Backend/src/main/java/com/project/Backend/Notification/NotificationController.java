@@ -3,6 +3,8 @@ package com.project.Backend.Notification;
 import com.project.Backend.Notification.Notification;
 import com.project.Backend.Notification.NotificationService;
 import com.project.Backend.Auth.security.jwt.JwtUtils;
+import com.project.Backend.Auth.security.revocation.TokenRevocationService;
+import com.project.Backend.Auth.security.services.TokenVersionService;
 import com.project.Backend.User.User;
 import com.project.Backend.User.UserRepository;
 import com.project.Backend.User.ResponseDTO.MessageResponse;
@@ -14,6 +16,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import com.project.Backend.Auth.security.services.UserDetailsImpl;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import io.jsonwebtoken.Claims;
 
 import java.util.List;
 
@@ -27,6 +30,10 @@ public class NotificationController {
     private JwtUtils jwtUtils;
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private TokenVersionService tokenVersionService;
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
 
     @GetMapping
     @PreAuthorize("hasRole('STUDENT') or hasRole('TEACHER') or hasRole('ADMIN')")
@@ -48,25 +55,29 @@ public class NotificationController {
     public SseEmitter stream(@RequestParam("token") String token) {
         SseEmitter emitter = new SseEmitter(Long.MAX_VALUE);
         try {
-            if (token == null || !jwtUtils.validateJwtToken(token)) {
+            Claims claims = token != null ? jwtUtils.getVerifiedClaims(token) : null;
+            if (claims == null || tokenRevocationService.isRevoked(claims)) {
                 emitter.completeWithError(new IllegalArgumentException("Invalid token"));
                 return emitter;
             }
-            String subject = jwtUtils.getUserNameFromJwtToken(token);
-            User user = userRepository.findByEmail(subject)
-                    .orElseGet(() -> userRepository.findByUsername(subject).orElse(null));
-            if (user == null) {
+            String userId = resolveUserId(claims);
+            if (userId == null) {
                 emitter.completeWithError(new IllegalArgumentException("User not found"));
                 return emitter;
             }
-            notificationService.registerEmitter(user.getId(), emitter);
-            List<Notification> current = notificationService.getUnreadNotifications(user.getId());
+            Long tokenVersion = jwtUtils.getTokenVersion(claims);
+            if (tokenVersion != null && !tokenVersionService.isCurrent(userId, tokenVersion)) {
+                emitter.completeWithError(new IllegalArgumentException("Invalid token"));
+                return emitter;
+            }
+            notificationService.registerEmitter(userId, emitter);
+            List<Notification> current = notificationService.getUnreadNotifications(userId);
             try {
                 emitter.send(SseEmitter.event().name("bootstrap").data(current));
             } catch (Exception ignored) {
             }
-            emitter.onCompletion(() -> notificationService.unregisterEmitter(user.getId(), emitter));
-            emitter.onTimeout(() -> notificationService.unregisterEmitter(user.getId(), emitter));
+            emitter.onCompletion(() -> notificationService.unregisterEmitter(userId, emitter));
+            emitter.onTimeout(() -> notificationService.unregisterEmitter(userId, emitter));
             return emitter;
         } catch (Exception e) {
             try {
@@ -78,6 +89,17 @@ public class NotificationController {
         }
     }
 
+    private String resolveUserId(Claims claims) {
+        String userId = claims.get(JwtUtils.CLAIM_USER_ID, String.class);
+        if (userId != null) {
+            return userId;
+        }
+        String subject = claims.getSubject();
+        User user = userRepository.findByEmail(subject)
+                .orElseGet(() -> userRepository.findByUsername(subject).orElse(null));
+        return user != null ? user.getId() : null;
+    }
+
     @PutMapping("/{id}/read")
     @PreAuthorize("hasRole('STUDENT') or hasRole('TEACHER') or hasRole('ADMIN')")
     public ResponseEntity<?> markAsRead(@PathVariable String id) {
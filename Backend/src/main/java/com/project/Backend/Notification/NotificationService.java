@@ -46,8 +46,8 @@ public class NotificationService {
         }
     }
 
-    public Notification createNotification(String recipientId, String title, String message, NotificationType type,
-            String relatedEntityId) {
+    public static Notification newNotification(String recipientId, String title, String message,
+            NotificationType type, String relatedEntityId) {
         Notification notification = new Notification();
         notification.setRecipientId(recipientId);
         notification.setTitle(title);
@@ -56,11 +56,37 @@ public class NotificationService {
         notification.setRelatedEntityId(relatedEntityId);
         notification.setCreatedAt(LocalDateTime.now());
         notification.setRead(false);
+        return notification;
+    }
+
+    public Notification createNotification(String recipientId, String title, String message, NotificationType type,
+            String relatedEntityId) {
+        Notification notification = newNotification(recipientId, title, message, type, relatedEntityId);
         Notification saved = notificationRepository.save(notification);
         pushToUser(recipientId, saved);
         return saved;
     }
 
+    /**
+     * Stores a batch of notifications with one bulk insert, then pushes each
+     * to its recipient's open streams.
+     */
+    public List<Notification> createNotifications(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return notifications;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (Notification notification : notifications) {
+            notification.setCreatedAt(now);
+            notification.setRead(false);
+        }
+        List<Notification> saved = notificationRepository.insert(notifications);
+        for (Notification notification : saved) {
+            pushToUser(notification.getRecipientId(), notification);
+        }
+        return saved;
+    }
+
     // Helper methods for specific notification flows
 
     public void sendCompetitionCreatedNotification(String recipientId, String competitionName, String competitionId) {
@@ -72,8 +98,8 @@ public class NotificationService {
                 competitionId);
     }
 
-    public void sendTeamInvitationNotification(String recipientId, String teamName, String teamId) {
-        createNotification(
+    public static Notification teamInvitation(String recipientId, String teamName, String teamId) {
+        return newNotification(
                 recipientId,
                 "Team Invitation",
                 "You have been invited to join team '" + teamName + "'.",
@@ -81,6 +107,11 @@ public class NotificationService {
                 teamId);
     }
 
+    public void sendTeamInvitationNotification(String recipientId, String teamName, String teamId) {
+        Notification saved = notificationRepository.save(teamInvitation(recipientId, teamName, teamId));
+        pushToUser(recipientId, saved);
+    }
+
     public void sendTeamConfirmationNotification(String recipientId, String teamName, String teamId) {
         createNotification(
                 recipientId,
@@ -0,0 +1,10 @@
+package com.project.Backend.Submission.ResponseDTO;
+
+import java.util.List;
+
+public record TeacherSubmissionPageDTO(
+        List<String> competitionIds, // competitions covered by this page
+        List<SubmissionCoreDTO> submissions,
+        String nextCursor // null on the last page
+) {
+}
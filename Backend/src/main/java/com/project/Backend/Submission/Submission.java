@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import com.project.Backend.Evaluation.Evaluation;
@@ -23,6 +24,7 @@ public class Submission {
     @Id
     private String submissionId;
 
+    @Indexed
     private String competitionId;
     private String submittedBy;
     private String teamId;
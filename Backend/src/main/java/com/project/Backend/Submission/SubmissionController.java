@@ -3,16 +3,15 @@ package com.project.Backend.Submission;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.project.Backend.Auth.security.services.UserDetailsImpl;
+import com.project.Backend.Auth.security.CurrentUser;
 import com.project.Backend.Submission.RequestDTO.AssignmentSubmissionRequestDTO;
 import com.project.Backend.Submission.RequestDTO.ProjectSubmissionRequestDTO;
 import com.project.Backend.Submission.RequestDTO.QuizSubmissionRequestDTO;
@@ -30,8 +29,7 @@ public class SubmissionController {
 
         @PreAuthorize("hasRole('STUDENT')")
         @GetMapping("/submissions")
-        public ResponseEntity<?> findMySubmissions() {
-                String studentId = currentUserId();
+        public ResponseEntity<?> findMySubmissions(@CurrentUser String studentId) {
                 if (studentId == null) {
                         return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                                         .body(new MessageResponse("Unauthorized"));
@@ -42,8 +40,8 @@ public class SubmissionController {
         @PreAuthorize("hasRole('STUDENT')")
         @GetMapping("/competitions/{competitionId}/submissions")
         public ResponseEntity<?> findMySubmissionsByCompetition(
-                        @PathVariable String competitionId) {
-                String studentId = currentUserId();
+                        @PathVariable String competitionId,
+                        @CurrentUser String studentId) {
                 if (studentId == null) {
                         return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                                         .body(new MessageResponse("Unauthorized"));
@@ -59,8 +57,8 @@ public class SubmissionController {
         @PreAuthorize("hasRole('STUDENT')")
         @GetMapping("/submissions/{submissionId}")
         public ResponseEntity<?> findMySubmissionById(
-                        @PathVariable String submissionId) {
-                String studentId = currentUserId();
+                        @PathVariable String submissionId,
+                        @CurrentUser String studentId) {
                 if (studentId == null) {
                         return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                                         .body(new MessageResponse("Unauthorized"));
@@ -79,8 +77,8 @@ public class SubmissionController {
         @PostMapping("/competitions/{competitionId}/submissions/assignment")
         public ResponseEntity<?> submitAssignment(
                         @PathVariable String competitionId,
-                        @RequestBody AssignmentSubmissionRequestDTO dto) {
-                String studentId = currentUserId();
+                        @RequestBody AssignmentSubmissionRequestDTO dto,
+                        @CurrentUser String studentId) {
                 if (studentId == null) {
                         return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                                         .body(new MessageResponse("Unauthorized"));
@@ -97,8 +95,8 @@ public class SubmissionController {
         @PutMapping("/competitions/{competitionId}/submissions/assignment")
         public ResponseEntity<?> updateAssignment(
                         @PathVariable String competitionId,
-                        @RequestBody AssignmentSubmissionRequestDTO dto) {
-                String studentId = currentUserId();
+                        @RequestBody AssignmentSubmissionRequestDTO dto,
+                        @CurrentUser String studentId) {
                 if (studentId == null) {
                         return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                                         .body(new MessageResponse("Unauthorized"));
@@ -117,8 +115,8 @@ public class SubmissionController {
         @PostMapping("/competitions/{competitionId}/submissions/project")
         public ResponseEntity<?> submitProject(
                         @PathVariable String competitionId,
-                        @RequestBody ProjectSubmissionRequestDTO dto) {
-                String studentId = currentUserId();
+                        @RequestBody ProjectSubmissionRequestDTO dto,
+                        @CurrentUser String studentId) {
                 if (studentId == null) {
                         return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                                         .body(new MessageResponse("Unauthorized"));
@@ -135,8 +133,8 @@ public class SubmissionController {
         @PutMapping("/competitions/{competitionId}/submissions/project")
         public ResponseEntity<?> updateProject(
                         @PathVariable String competitionId,
-                        @RequestBody ProjectSubmissionRequestDTO dto) {
-                String studentId = currentUserId();
+                        @RequestBody ProjectSubmissionRequestDTO dto,
+                        @CurrentUser String studentId) {
                 if (studentId == null) {
                         return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                                         .body(new MessageResponse("Unauthorized"));
@@ -155,8 +153,8 @@ public class SubmissionController {
         @PostMapping("/competitions/{competitionId}/submissions/quiz")
         public ResponseEntity<?> submitQuiz(
                         @PathVariable String competitionId,
-                        @RequestBody QuizSubmissionRequestDTO dto) {
-                String studentId = currentUserId();
+                        @RequestBody QuizSubmissionRequestDTO dto,
+                        @CurrentUser String studentId) {
                 if (studentId == null) {
                         return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                                         .body(new MessageResponse("Unauthorized"));
@@ -173,8 +171,7 @@ public class SubmissionController {
 
         @PreAuthorize("hasRole('TEACHER')")
         @GetMapping("/teacher/submissions")
-        public ResponseEntity<?> findTeacherSubmissions() {
-                String teacherId = currentUserId();
+        public ResponseEntity<?> findTeacherSubmissions(@CurrentUser String teacherId) {
                 if (teacherId == null) {
                         return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                                         .body(new MessageResponse("Unauthorized"));
@@ -182,10 +179,25 @@ public class SubmissionController {
                 return ResponseEntity.ok(service.getTeacherSubmissions(teacherId));
         }
 
+        @PreAuthorize("hasRole('TEACHER')")
+        @GetMapping("/teacher/submissions/page")
+        public ResponseEntity<?> findTeacherSubmissionsPage(
+                        @CurrentUser String teacherId,
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(defaultValue = "20") int limit) {
+                if (teacherId == null) {
+                        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                                        .body(new MessageResponse("Unauthorized"));
+                }
+                int pageSize = Math.max(1, Math.min(limit, 100));
+                return ResponseEntity.ok(service.getTeacherSubmissionsPage(teacherId, cursor, pageSize));
+        }
+
         @PreAuthorize("hasRole('TEACHER')")
         @GetMapping("/teacher/competitions/{competitionId}/submissions")
-        public ResponseEntity<?> findTeacherSubmissionsByCompetition(@PathVariable String competitionId) {
-                String teacherId = currentUserId();
+        public ResponseEntity<?> findTeacherSubmissionsByCompetition(
+                        @PathVariable String competitionId,
+                        @CurrentUser String teacherId) {
                 if (teacherId == null) {
                         return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                                         .body(new MessageResponse("Unauthorized"));
@@ -196,12 +208,4 @@ public class SubmissionController {
                         return ResponseEntity.badRequest().body(new MessageResponse(ex.getMessage()));
                 }
         }
-
-        private String currentUserId() {
-                Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-                if (auth != null && auth.getPrincipal() instanceof UserDetailsImpl principal) {
-                        return principal.getId();
-                }
-                return null;
-        }
 }
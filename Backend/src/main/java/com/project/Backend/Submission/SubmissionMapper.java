@@ -104,21 +104,14 @@ public class SubmissionMapper {
 
         // ================= RESPONSE =================
 
+        /**
+         * {@code submissionOpen} comes from CompetitionPhaseScheduler, so list
+         * views do not recompute the phase for every item.
+         */
         public static SubmissionCoreDTO toResponse(
                         Submission s,
-                        Competition competition) {
-                LocalDateTime now = LocalDateTime.now();
-
-                LocalDateTime registrationDeadline = competition != null
-                                ? competition.getRegistrationDeadline()
-                                : null;
-                LocalDateTime submissionDeadline = competition != null
-                                ? competition.getSubmissionDeadline()
-                                : null;
-
-                boolean submissionOpen = (registrationDeadline == null || now.isAfter(registrationDeadline)) &&
-                                (submissionDeadline == null || now.isBefore(submissionDeadline));
-
+                        Competition competition,
+                        boolean submissionOpen) {
                 boolean canSubmit = submissionOpen;
 
                 boolean canEdit = canSubmit &&
@@ -0,0 +1,131 @@
+package com.project.Backend.Submission;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.project.Backend.Metrics.MetricsSource;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Bounded pool for running the independent Mongo lookups of a submission
+ * view concurrently. Each task is timed under a step name. When the queue is
+ * full the caller runs the task itself, so load degrades to the sequential
+ * behaviour instead of failing.
+ */
+@Component
+public class SubmissionQueryExecutor implements MetricsSource {
+
+    private static final class StepTimer {
+        final LongAdder count = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+    }
+
+    private final ThreadPoolExecutor executor;
+    private final Map<String, StepTimer> steps = new ConcurrentHashMap<>();
+
+    public SubmissionQueryExecutor(
+            @Value("${competition.app.submissionQueryThreads:16}") int threads,
+            @Value("${competition.app.submissionQueryQueueCapacity:256}") int queueCapacity) {
+        int poolSize = Math.max(1, threads);
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                threadFactory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public <T> CompletableFuture<T> submit(String step, Supplier<T> task) {
+        return CompletableFuture.supplyAsync(() -> timed(step, task), executor);
+    }
+
+    /**
+     * Runs a task on the calling thread, timed under the same step metrics as
+     * submitted tasks.
+     */
+    public <T> T run(String step, Supplier<T> task) {
+        return timed(step, task);
+    }
+
+    /**
+     * Waits for a future and rethrows the task's own runtime exception, so
+     * callers keep their usual IllegalArgument/IllegalState handling.
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public String metricsName() {
+        return "submissionQueries";
+    }
+
+    @Override
+    public Map<String, Object> metrics() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("threads", executor.getMaximumPoolSize());
+        out.put("active", executor.getActiveCount());
+        out.put("queueDepth", executor.getQueue().size());
+        steps.forEach((step, timer) -> {
+            long count = timer.count.sum();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", count);
+            stats.put("avgMillis", count == 0 ? 0.0 : timer.nanos.sum() / (double) count / 1_000_000);
+            stats.put("maxMillis", TimeUnit.NANOSECONDS.toMillis(timer.maxNanos.get()));
+            out.put(step, stats);
+        });
+        return out;
+    }
+
+    private <T> T timed(String step, Supplier<T> task) {
+        long start = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            StepTimer timer = steps.computeIfAbsent(step, s -> new StepTimer());
+            timer.count.increment();
+            timer.nanos.add(elapsed);
+            timer.maxNanos.accumulate(elapsed);
+        }
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "submission-query-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,21 +1,29 @@
 package com.project.Backend.Submission;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
 import com.project.Backend.Competition.Competition;
+import com.project.Backend.Competition.CompetitionCache;
+import com.project.Backend.Competition.CompetitionPhase;
+import com.project.Backend.Competition.CompetitionPhaseScheduler;
 import com.project.Backend.Competition.CompetitionRepository;
+import com.project.Backend.Competition.RequestDTO.CompetitionFilter;
+import com.project.Backend.CompetitionRegistration.CompetitionRegistration;
 import com.project.Backend.CompetitionRegistration.CompetitionRegistrationRepository;
 import com.project.Backend.CompetitionRegistration.RegistrationStatus;
 import com.project.Backend.Submission.RequestDTO.AssignmentSubmissionRequestDTO;
 import com.project.Backend.Submission.RequestDTO.ProjectSubmissionRequestDTO;
 import com.project.Backend.Submission.RequestDTO.QuizSubmissionRequestDTO;
 import com.project.Backend.Submission.ResponseDTO.SubmissionCoreDTO;
+import com.project.Backend.Submission.ResponseDTO.TeacherSubmissionPageDTO;
 import com.project.Backend.Team.TeamContext;
 import com.project.Backend.Team.TeamRepository;
 
@@ -27,40 +35,56 @@ public class SubmissionService {
 
         private final SubmissionRepository submissionRepository;
         private final CompetitionRepository competitionRepository;
+        private final CompetitionCache competitionCache;
+        private final CompetitionPhaseScheduler phaseScheduler;
         private final CompetitionRegistrationRepository competitionRegistrationRepository;
         private final TeamRepository teamRepository;
+        private final SubmissionQueryExecutor queryExecutor;
 
         // ================= VIEW =================
 
         public List<SubmissionCoreDTO> getTeacherSubmissions(String teacherId) {
-                List<Competition> ownedCompetitions = competitionRepository.findAll()
-                                .stream()
-                                .filter(c -> teacherId != null && teacherId.equals(c.getCreatedBy()))
-                                .toList();
+                if (teacherId == null) {
+                        return List.of();
+                }
+                return submissionsForCompetitions(competitionRepository.findDeadlinesByCreatedBy(teacherId));
+        }
 
-                List<String> competitionIds = ownedCompetitions
-                                .stream()
-                                .map(Competition::getCompetitionId)
-                                .toList();
+        /**
+         * Submissions for one page of the teacher's competitions, newest
+         * competition first. Pass the returned nextCursor back to continue.
+         */
+        public TeacherSubmissionPageDTO getTeacherSubmissionsPage(String teacherId, String cursor, int limit) {
+                CompetitionFilter owned = new CompetitionFilter(null, null, null, teacherId, null, null, null, null);
+                List<Competition> rows = competitionRepository.findPage(owned, cursor, limit + 1, true);
+                boolean hasMore = rows.size() > limit;
+                List<Competition> page = hasMore ? rows.subList(0, limit) : rows;
+                String nextCursor = hasMore ? page.get(page.size() - 1).getCompetitionId() : null;
+                return new TeacherSubmissionPageDTO(
+                                page.stream().map(Competition::getCompetitionId).toList(),
+                                submissionsForCompetitions(page),
+                                nextCursor);
+        }
 
-                if (competitionIds.isEmpty()) {
+        private List<SubmissionCoreDTO> submissionsForCompetitions(List<Competition> competitions) {
+                if (competitions.isEmpty()) {
                         return List.of();
                 }
 
-                Map<String, Competition> competitionMap = ownedCompetitions
+                Map<String, Competition> competitionMap = competitions
                                 .stream()
                                 .collect(Collectors.toMap(Competition::getCompetitionId, c -> c));
 
-                return submissionRepository.findByCompetitionIdIn(competitionIds)
+                return submissionRepository.findByCompetitionIdIn(List.copyOf(competitionMap.keySet()))
                                 .stream()
-                                .map(s -> SubmissionMapper.toResponse(s, competitionMap.get(s.getCompetitionId())))
+                                .map(s -> toResponse(s, competitionMap.get(s.getCompetitionId())))
                                 .toList();
         }
 
         public List<SubmissionCoreDTO> getTeacherSubmissionsByCompetition(
                         String competitionId,
                         String teacherId) {
-                Competition competition = competitionRepository.findById(competitionId)
+                Competition competition = competitionCache.findById(competitionId)
                                 .orElseThrow(() -> new IllegalArgumentException("Competition not found"));
 
                 if (!"INTERNAL".equalsIgnoreCase(competition.getCompetitionType())) {
@@ -73,32 +97,37 @@ public class SubmissionService {
 
                 return submissionRepository.findByCompetitionId(competitionId)
                                 .stream()
-                                .map(s -> SubmissionMapper.toResponse(s, competition))
+                                .map(s -> toResponse(s, competition))
                                 .toList();
         }
 
+        /**
+         * Own and team submissions of a student. The individual lookup runs
+         * alongside the team chain; within the chain, the registration check
+         * and the team submission lookup both only need the team ids, so they
+         * run concurrently too and the result is filtered afterwards.
+         */
         public List<SubmissionCoreDTO> getMySubmissions(String studentId) {
 
-                List<Submission> individual = submissionRepository.findBySubmittedBy(studentId);
+                CompletableFuture<List<Submission>> individual = queryExecutor.submit(
+                                "individualSubmissions",
+                                () -> submissionRepository.findBySubmittedBy(studentId));
 
-                List<String> teamIds = teamRepository
-                                .findByLeaderIdOrAcceptedMemberIdsContaining(studentId, studentId)
-                                .stream()
-                                .map(t -> t.getTeamId())
-                                .toList();
+                List<String> teamIds = queryExecutor.run(
+                                "teams",
+                                () -> teamRepository
+                                                .findByMemberIds(studentId)
+                                                .stream()
+                                                .map(t -> t.getTeamId())
+                                                .toList());
 
-                List<String> registeredTeamIds = competitionRegistrationRepository
-                                .findByTeamIdInAndStatus(teamIds, RegistrationStatus.REGISTERED)
-                                .stream()
-                                .map(r -> r.getTeamId())
-                                .toList();
-
-                List<Submission> teamSubmissions = registeredTeamIds.isEmpty()
-                                ? List.of()
-                                : submissionRepository.findByTeamIdIn(registeredTeamIds);
+                List<Submission> teamSubmissions = registeredTeamSubmissions(
+                                teamIds,
+                                () -> competitionRegistrationRepository
+                                                .findByTeamIdInAndStatus(teamIds, RegistrationStatus.REGISTERED));
 
                 List<Submission> all = new ArrayList<>();
-                all.addAll(individual);
+                all.addAll(SubmissionQueryExecutor.join(individual));
                 all.addAll(teamSubmissions);
 
                 return mapWithCompetitions(all);
@@ -108,43 +137,69 @@ public class SubmissionService {
                         String competitionId,
                         String studentId) {
 
-                List<Submission> individual = submissionRepository
-                                .findByCompetitionIdAndSubmittedBy(competitionId, studentId)
-                                .map(List::of)
-                                .orElse(List.of());
+                CompletableFuture<Competition> competition = queryExecutor.submit(
+                                "competition",
+                                () -> competitionCache.findById(competitionId)
+                                                .orElseThrow(() -> new IllegalArgumentException("Competition not found")));
+
+                CompletableFuture<List<Submission>> individual = queryExecutor.submit(
+                                "individualSubmissions",
+                                () -> submissionRepository
+                                                .findByCompetitionIdAndSubmittedBy(competitionId, studentId)
+                                                .map(List::of)
+                                                .orElse(List.<Submission>of()));
+
+                List<String> teamIds = queryExecutor.run(
+                                "teams",
+                                () -> teamRepository
+                                                .findFirstByCompetitionIdAndMemberIds(competitionId, studentId)
+                                                .map(t -> List.of(t.getTeamId()))
+                                                .orElse(List.<String>of()));
+
+                List<Submission> teamSubmissions = registeredTeamSubmissions(
+                                teamIds,
+                                () -> competitionRegistrationRepository
+                                                .findByCompetitionIdAndTeamIdInAndStatus(
+                                                                competitionId,
+                                                                teamIds,
+                                                                RegistrationStatus.REGISTERED));
 
-                var teams = new ArrayList<>(teamRepository
-                                .findByCompetitionIdAndLeaderId(competitionId, studentId));
-                teams.addAll(teamRepository
-                                .findByCompetitionIdAndAcceptedMemberIdsContaining(competitionId, studentId));
+                List<Submission> all = new ArrayList<>();
+                all.addAll(SubmissionQueryExecutor.join(individual));
+                all.addAll(teamSubmissions);
 
-                List<String> teamIds = teams.stream()
-                                .map(t -> t.getTeamId())
-                                .distinct()
-                                .toList();
+                Competition resolved = SubmissionQueryExecutor.join(competition);
 
-                List<String> registeredTeamIds = competitionRegistrationRepository
-                                .findByCompetitionIdAndTeamIdInAndStatus(
-                                                competitionId,
-                                                teamIds,
-                                                RegistrationStatus.REGISTERED)
-                                .stream()
-                                .map(r -> r.getTeamId())
+                return all.stream()
+                                .map(s -> toResponse(s, resolved))
                                 .toList();
+        }
 
-                List<Submission> teamSubmissions = registeredTeamIds.isEmpty()
-                                ? List.of()
-                                : submissionRepository.findByTeamIdIn(registeredTeamIds);
+        /**
+         * Submissions of the given teams, restricted to teams with an active
+         * registration. Both lookups only depend on the team ids, so the
+         * submission lookup runs on the pool while the registration lookup
+         * runs on the calling thread.
+         */
+        private List<Submission> registeredTeamSubmissions(
+                        List<String> teamIds,
+                        Supplier<List<CompetitionRegistration>> registrations) {
+                if (teamIds.isEmpty()) {
+                        return List.of();
+                }
 
-                List<Submission> all = new ArrayList<>();
-                all.addAll(individual);
-                all.addAll(teamSubmissions);
+                CompletableFuture<List<Submission>> submissions = queryExecutor.submit(
+                                "teamSubmissions",
+                                () -> submissionRepository.findByTeamIdIn(teamIds));
 
-                Competition competition = competitionRepository.findById(competitionId)
-                                .orElseThrow(() -> new IllegalArgumentException("Competition not found"));
+                Set<String> registeredTeamIds = queryExecutor.run("teamRegistrations", registrations)
+                                .stream()
+                                .map(r -> r.getTeamId())
+                                .collect(Collectors.toSet());
 
-                return all.stream()
-                                .map(s -> SubmissionMapper.toResponse(s, competition))
+                return SubmissionQueryExecutor.join(submissions)
+                                .stream()
+                                .filter(s -> registeredTeamIds.contains(s.getTeamId()))
                                 .toList();
         }
 
@@ -155,12 +210,9 @@ public class SubmissionService {
                                 .orElseThrow(() -> new IllegalArgumentException("Submission not found"));
 
                 if (submission.getTeamId() != null) {
-                        boolean isLeader = teamRepository
-                                        .existsByTeamIdAndLeaderId(submission.getTeamId(), studentId);
                         boolean isMember = teamRepository
-                                        .existsByTeamIdAndAcceptedMemberIdsContaining(
-                                                        submission.getTeamId(), studentId);
-                        if (!isLeader && !isMember) {
+                                        .existsByTeamIdAndMemberIds(submission.getTeamId(), studentId);
+                        if (!isMember) {
                                 throw new IllegalStateException("Not authorized");
                         }
                 } else {
@@ -169,10 +221,10 @@ public class SubmissionService {
                         }
                 }
 
-                Competition competition = competitionRepository.findById(submission.getCompetitionId())
+                Competition competition = competitionCache.findById(submission.getCompetitionId())
                                 .orElseThrow(() -> new IllegalArgumentException("Competition not found"));
 
-                return SubmissionMapper.toResponse(submission, competition);
+                return toResponse(submission, competition);
         }
 
         // ================= ASSIGNMENT =================
@@ -200,7 +252,7 @@ public class SubmissionService {
 
                 SubmissionMapper.applyAssignmentUpdate(submission, dto, ctx);
 
-                return SubmissionMapper.toResponse(
+                return toResponse(
                                 submissionRepository.save(submission),
                                 competition);
         }
@@ -230,7 +282,7 @@ public class SubmissionService {
 
                 SubmissionMapper.applyProjectUpdate(submission, dto, ctx);
 
-                return SubmissionMapper.toResponse(
+                return toResponse(
                                 submissionRepository.save(submission),
                                 competition);
         }
@@ -256,29 +308,34 @@ public class SubmissionService {
 
                 Submission submission = SubmissionMapper.newQuiz(competitionId, ctx.submittedBy(), ctx, dto);
 
-                return SubmissionMapper.toResponse(
+                return toResponse(
                                 submissionRepository.save(submission),
                                 competition);
         }
 
         // ================= HELPERS =================
 
+        private SubmissionCoreDTO toResponse(Submission submission, Competition competition) {
+                return SubmissionMapper.toResponse(
+                                submission,
+                                competition,
+                                phaseScheduler.isSubmissionOpen(competition));
+        }
+
         private Competition validateAndGetCompetition(
                         String competitionId,
                         String expectedType) {
 
-                Competition competition = competitionRepository.findById(competitionId)
+                Competition competition = competitionCache.findById(competitionId)
                                 .orElseThrow(() -> new IllegalArgumentException("Competition not found"));
 
-                LocalDateTime now = LocalDateTime.now();
+                CompetitionPhase phase = phaseScheduler.phase(competition);
 
-                if (competition.getRegistrationDeadline() != null
-                                && now.isBefore(competition.getRegistrationDeadline())) {
+                if (phase == CompetitionPhase.REGISTRATION_OPEN) {
                         throw new IllegalStateException("Submission not open yet");
                 }
 
-                if (competition.getSubmissionDeadline() != null
-                                && now.isAfter(competition.getSubmissionDeadline())) {
+                if (phase == CompetitionPhase.CLOSED) {
                         throw new IllegalStateException("Submission deadline passed");
                 }
 
@@ -360,19 +417,14 @@ public class SubmissionService {
                         return List.of();
 
                 // Batch load competitions to avoid N+1
-                var competitionMap = competitionRepository
-                                .findAllById(
-                                                submissions.stream()
-                                                                .map(Submission::getCompetitionId)
-                                                                .distinct()
-                                                                .toList())
-                                .stream()
-                                .collect(Collectors.toMap(
-                                                Competition::getCompetitionId,
-                                                c -> c));
+                var competitionMap = competitionCache.findAllById(
+                                submissions.stream()
+                                                .map(Submission::getCompetitionId)
+                                                .distinct()
+                                                .toList());
 
                 return submissions.stream()
-                                .map(s -> SubmissionMapper.toResponse(
+                                .map(s -> toResponse(
                                                 s,
                                                 competitionMap.get(s.getCompetitionId())))
                                 .toList();
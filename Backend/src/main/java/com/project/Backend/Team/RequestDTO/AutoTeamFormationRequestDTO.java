@@ -0,0 +1,8 @@
+package com.project.Backend.Team.RequestDTO;
+
+import java.util.List;
+
+public record AutoTeamFormationRequestDTO(
+        List<String> studentIds // students to place; those already in a team are skipped
+) {
+}
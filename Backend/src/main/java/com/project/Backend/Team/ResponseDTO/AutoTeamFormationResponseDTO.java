@@ -0,0 +1,13 @@
+package com.project.Backend.Team.ResponseDTO;
+
+import java.util.List;
+
+public record AutoTeamFormationResponseDTO(
+        int requested,
+        List<TeamResponseDTO> teams,
+        List<String> alreadyInTeam,
+        List<String> invalid, // unknown users or not students
+        List<String> unassigned, // left over by team size bounds, seats or conflicts
+        long elapsedMillis
+) {
+}
@@ -0,0 +1,14 @@
+package com.project.Backend.Team.ResponseDTO;
+
+import java.util.List;
+
+public record TeamListingDTO(
+        String teamId,
+        String teamName,
+        String competitionId,
+        String status,
+        TeamMemberDTO leader,
+        List<TeamMemberDTO> members, // accepted members, leader included
+        Integer openSlots // null when the competition has no maximum team size
+) {
+}
@@ -0,0 +1,8 @@
+package com.project.Backend.Team.ResponseDTO;
+
+public record TeamMemberDTO(
+        String userId,
+        String displayName,
+        String avatarUrl
+) {
+}
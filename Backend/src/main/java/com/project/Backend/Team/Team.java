@@ -3,6 +3,7 @@ package com.project.Backend.Team;
 import java.util.List;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.AllArgsConstructor;
@@ -31,5 +32,13 @@ public class Team {
     // accepted users
     private List<String> acceptedMemberIds;
 
+    // leader + accepted members, kept in sync on every save by
+    // TeamMembershipListener; backs the one-team-per-competition index
+    private List<String> memberIds;
+
     private TeamStatus status; // INACTIVE | ACTIVE
+
+    // optimistic lock for whole-document saves; membership updates bump it too
+    @Version
+    private Long version;
 }
@@ -5,8 +5,6 @@ import java.util.List;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -15,7 +13,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.project.Backend.Auth.security.services.UserDetailsImpl;
+import com.project.Backend.Auth.security.CurrentUser;
 import com.project.Backend.Team.RequestDTO.CreateTeamRequestDTO;
 import com.project.Backend.Team.RequestDTO.AcceptTeamInvitationRequestDTO;
 import com.project.Backend.Team.ResponseDTO.TeamResponseDTO;
@@ -40,9 +38,27 @@ public class TeamController {
         return ResponseEntity.ok(teams);
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<?> listTeamsPage(
+            @RequestParam String competitionId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        int pageSize = Math.max(1, Math.min(limit, 100));
+        try {
+            TeamStatus teamStatus = status == null || status.isBlank()
+                    ? null
+                    : TeamStatus.valueOf(status.trim().toUpperCase());
+            boolean byOpenSlots = "openSlots".equalsIgnoreCase(sort);
+            return ResponseEntity.ok(teamService.listTeamsPage(competitionId, teamStatus, byOpenSlots, cursor, pageSize));
+        } catch (IllegalStateException | IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(new MessageResponse(ex.getMessage()));
+        }
+    }
+
     @GetMapping("/my")
-    public ResponseEntity<?> listMyTeams() {
-        String studentId = currentUserId();
+    public ResponseEntity<?> listMyTeams(@CurrentUser String studentId) {
         if (studentId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new MessageResponse("Unauthorized"));
         }
@@ -51,8 +67,7 @@ public class TeamController {
     }
 
     @PostMapping
-    public ResponseEntity<?> createTeam(@RequestBody CreateTeamRequestDTO request) {
-        String studentId = currentUserId();
+    public ResponseEntity<?> createTeam(@RequestBody CreateTeamRequestDTO request, @CurrentUser String studentId) {
         if (studentId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new MessageResponse("Unauthorized"));
         }
@@ -68,8 +83,7 @@ public class TeamController {
     }
 
     @PostMapping("/{teamId}/join")
-    public ResponseEntity<?> joinTeam(@PathVariable String teamId) {
-        String studentId = currentUserId();
+    public ResponseEntity<?> joinTeam(@PathVariable String teamId, @CurrentUser String studentId) {
         if (studentId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new MessageResponse("Unauthorized"));
         }
@@ -82,8 +96,7 @@ public class TeamController {
     }
 
     @PostMapping("/{teamId}/accept-invitation")
-    public ResponseEntity<?> acceptInvitation(@PathVariable String teamId) {
-        String studentId = currentUserId();
+    public ResponseEntity<?> acceptInvitation(@PathVariable String teamId, @CurrentUser String studentId) {
         if (studentId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new MessageResponse("Unauthorized"));
         }
@@ -95,12 +108,4 @@ public class TeamController {
             return ResponseEntity.badRequest().body(new MessageResponse(ex.getMessage()));
         }
     }
-
-    private String currentUserId() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth != null && auth.getPrincipal() instanceof UserDetailsImpl principal) {
-            return principal.getId();
-        }
-        return null;
-    }
 }
@@ -0,0 +1,45 @@
+package com.project.Backend.Team;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.project.Backend.Auth.security.CurrentUser;
+import com.project.Backend.Auth.security.services.UserDetailsImpl;
+import com.project.Backend.Team.RequestDTO.AutoTeamFormationRequestDTO;
+import com.project.Backend.User.ResponseDTO.MessageResponse;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@PreAuthorize("hasAnyRole('TEACHER', 'ADMIN')")
+@RequiredArgsConstructor
+public class TeamFormationController {
+
+    private final TeamFormationService formationService;
+
+    @PostMapping("/teacher/competitions/{competitionId}/teams/auto-form")
+    public ResponseEntity<?> formTeams(
+            @PathVariable String competitionId,
+            @RequestBody AutoTeamFormationRequestDTO dto,
+            @CurrentUser UserDetailsImpl user) {
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new MessageResponse("Unauthorized"));
+        }
+        boolean admin = user.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED).body(formationService.formTeams(
+                    competitionId,
+                    user.getId(),
+                    admin,
+                    dto != null ? dto.studentIds() : null));
+        } catch (IllegalStateException | IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(new MessageResponse(ex.getMessage()));
+        }
+    }
+}
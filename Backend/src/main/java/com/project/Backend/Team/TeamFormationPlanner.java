@@ -0,0 +1,102 @@
+package com.project.Backend.Team;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pure planning step of automatic team formation: no I/O, so it can be
+ * benchmarked and reasoned about on its own.
+ *
+ * Team count and sizes are chosen so every team is within [min, max] and
+ * sizes differ by at most one. Students are ordered by department (largest
+ * department first, then by id for a deterministic plan) and dealt to the
+ * teams in snake order, which spreads each department as evenly as possible
+ * across teams. Runs in O(n log n).
+ */
+public final class TeamFormationPlanner {
+
+    public record Candidate(String studentId, String department) {
+    }
+
+    public record Plan(List<List<String>> teams, List<String> unassigned) {
+    }
+
+    private TeamFormationPlanner() {
+    }
+
+    public static Plan plan(List<Candidate> candidates, int minSize, int maxSize) {
+        if (minSize < 1 || maxSize < minSize) {
+            throw new IllegalArgumentException("Invalid team size bounds");
+        }
+        int[] sizes = teamSizes(candidates.size(), minSize, maxSize);
+        int assigned = 0;
+        for (int size : sizes) {
+            assigned += size;
+        }
+
+        List<Candidate> ordered = orderByDepartment(candidates);
+        List<String> unassigned = new ArrayList<>();
+        for (Candidate candidate : ordered.subList(assigned, ordered.size())) {
+            unassigned.add(candidate.studentId());
+        }
+
+        List<List<String>> teams = new ArrayList<>(sizes.length);
+        for (int size : sizes) {
+            teams.add(new ArrayList<>(size));
+        }
+        int next = 0;
+        boolean forward = true;
+        while (next < assigned) {
+            for (int i = 0; i < sizes.length && next < assigned; i++) {
+                int team = forward ? i : sizes.length - 1 - i;
+                if (teams.get(team).size() < sizes[team]) {
+                    teams.get(team).add(ordered.get(next++).studentId());
+                }
+            }
+            forward = !forward;
+        }
+        return new Plan(teams, unassigned);
+    }
+
+    /**
+     * As few teams as the maximum size allows; if that would leave teams
+     * under the minimum, fewer teams and the surplus left unassigned.
+     */
+    static int[] teamSizes(int students, int minSize, int maxSize) {
+        if (students < minSize) {
+            return new int[0];
+        }
+        int teams = (students + maxSize - 1) / maxSize;
+        if (students / teams < minSize) {
+            teams = students / minSize;
+        }
+        int assigned = Math.min(students, teams * maxSize);
+        int base = assigned / teams;
+        int remainder = assigned % teams;
+        int[] sizes = new int[teams];
+        for (int i = 0; i < teams; i++) {
+            sizes[i] = base + (i < remainder ? 1 : 0);
+        }
+        return sizes;
+    }
+
+    private static List<Candidate> orderByDepartment(List<Candidate> candidates) {
+        Map<String, Integer> departmentSizes = new HashMap<>();
+        for (Candidate candidate : candidates) {
+            departmentSizes.merge(departmentOf(candidate), 1, Integer::sum);
+        }
+        List<Candidate> ordered = new ArrayList<>(candidates);
+        ordered.sort(Comparator
+                .comparing((Candidate c) -> -departmentSizes.get(departmentOf(c)))
+                .thenComparing(TeamFormationPlanner::departmentOf)
+                .thenComparing(Candidate::studentId));
+        return ordered;
+    }
+
+    private static String departmentOf(Candidate candidate) {
+        return candidate.department() != null ? candidate.department() : "";
+    }
+}
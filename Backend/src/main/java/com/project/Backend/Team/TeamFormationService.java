@@ -0,0 +1,301 @@
+package com.project.Backend.Team;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.project.Backend.Competition.Competition;
+import com.project.Backend.Competition.CompetitionCache;
+import com.project.Backend.Competition.CompetitionPhase;
+import com.project.Backend.Competition.CompetitionPhaseScheduler;
+import com.project.Backend.CompetitionRegistration.CompetitionRegistration;
+import com.project.Backend.CompetitionRegistration.CompetitionRegistrationMapper;
+import com.project.Backend.CompetitionRegistration.SeatAllocator;
+import com.project.Backend.Notification.Notification;
+import com.project.Backend.Notification.NotificationService;
+import com.project.Backend.Notification.NotificationType;
+import com.project.Backend.Team.ResponseDTO.AutoTeamFormationResponseDTO;
+import com.project.Backend.User.Role;
+import com.project.Backend.User.User;
+
+/**
+ * Groups students without a team into teams for a TEAM competition.
+ *
+ * One projected query loads the students, one finds those already in a team
+ * of the competition, {@link TeamFormationPlanner} builds the plan in memory,
+ * and teams, registrations and notifications are each written with a single
+ * bulk insert.
+ */
+@Service
+public class TeamFormationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TeamFormationService.class);
+
+    private static final int MAX_STUDENTS = 20000;
+
+    private final MongoTemplate mongoTemplate;
+    private final CompetitionCache competitionCache;
+    private final CompetitionPhaseScheduler phaseScheduler;
+    private final SeatAllocator seatAllocator;
+    private final NotificationService notificationService;
+    private final int defaultTeamSize;
+
+    public TeamFormationService(
+            MongoTemplate mongoTemplate,
+            CompetitionCache competitionCache,
+            CompetitionPhaseScheduler phaseScheduler,
+            SeatAllocator seatAllocator,
+            NotificationService notificationService,
+            @Value("${competition.app.autoTeamDefaultSize:4}") int defaultTeamSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.competitionCache = competitionCache;
+        this.phaseScheduler = phaseScheduler;
+        this.seatAllocator = seatAllocator;
+        this.notificationService = notificationService;
+        this.defaultTeamSize = Math.max(1, defaultTeamSize);
+    }
+
+    public AutoTeamFormationResponseDTO formTeams(
+            String competitionId,
+            String requesterId,
+            boolean admin,
+            List<String> studentIds) {
+        long started = System.nanoTime();
+        if (studentIds == null || studentIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one student is required");
+        }
+        if (studentIds.size() > MAX_STUDENTS) {
+            throw new IllegalArgumentException("At most " + MAX_STUDENTS + " students can be placed per request");
+        }
+
+        Competition competition = competitionCache.findById(competitionId)
+                .orElseThrow(() -> new IllegalArgumentException("Competition not found"));
+        if (!admin && (requesterId == null || !requesterId.equals(competition.getCreatedBy()))) {
+            throw new IllegalStateException("Not authorized");
+        }
+        if (!"TEAM".equalsIgnoreCase(competition.getParticipationType())) {
+            throw new IllegalStateException("Teams can only be formed for team competitions");
+        }
+        if (phaseScheduler.phase(competition) == CompetitionPhase.CLOSED) {
+            throw new IllegalStateException("Competition is closed");
+        }
+
+        int minSize = competition.getMinTeamSize() != null ? competition.getMinTeamSize() : 1;
+        int maxSize = competition.getMaxTeamSize() != null
+                ? competition.getMaxTeamSize()
+                : Math.max(minSize, defaultTeamSize);
+        if (minSize < 1 || maxSize < minSize) {
+            throw new IllegalStateException("Competition has invalid team size bounds");
+        }
+
+        Set<String> pool = new LinkedHashSet<>();
+        for (String studentId : studentIds) {
+            if (studentId != null && !studentId.isBlank()) {
+                pool.add(studentId.trim());
+            }
+        }
+
+        Query studentQuery = Query.query(Criteria.where("_id").in(pool));
+        studentQuery.fields().include("roles", "department", "fullName");
+        Map<String, User> students = new HashMap<>();
+        for (User user : mongoTemplate.find(studentQuery, User.class)) {
+            if (user.getRoles() != null && user.getRoles().contains(Role.ROLE_STUDENT)) {
+                students.put(user.getId(), user);
+            }
+        }
+
+        Query teamedQuery = Query.query(Criteria.where("competitionId").is(competitionId)
+                .and("memberIds").in(students.keySet()));
+        teamedQuery.fields().include("memberIds");
+        Set<String> teamed = new HashSet<>();
+        for (Team team : mongoTemplate.find(teamedQuery, Team.class)) {
+            teamed.addAll(team.getMemberIds());
+        }
+
+        List<String> invalid = new ArrayList<>();
+        List<String> alreadyInTeam = new ArrayList<>();
+        List<TeamFormationPlanner.Candidate> candidates = new ArrayList<>();
+        for (String studentId : pool) {
+            User student = students.get(studentId);
+            if (student == null) {
+                invalid.add(studentId);
+            } else if (teamed.contains(studentId)) {
+                alreadyInTeam.add(studentId);
+            } else {
+                candidates.add(new TeamFormationPlanner.Candidate(studentId, student.getDepartment()));
+            }
+        }
+
+        TeamFormationPlanner.Plan plan = TeamFormationPlanner.plan(candidates, minSize, maxSize);
+        List<String> unassigned = new ArrayList<>(plan.unassigned());
+        List<List<String>> groups = plan.teams();
+
+        int seats = seatAllocator.tryReserveUpTo(competition, groups.size());
+        for (List<String> group : groups.subList(seats, groups.size())) {
+            unassigned.addAll(group);
+        }
+        groups = groups.subList(0, seats);
+
+        long existing = mongoTemplate.count(Query.query(Criteria.where("competitionId").is(competitionId)), Team.class);
+        List<Team> teams = new ArrayList<>(groups.size());
+        for (List<String> group : groups) {
+            teams.add(newTeam(competitionId, "Auto Team " + (existing + teams.size() + 1), group));
+        }
+
+        List<BulkWriteError> failures = new ArrayList<>();
+        List<Team> inserted = insertTeams(teams, unassigned, failures);
+        seatAllocator.release(competition, teams.size() - inserted.size());
+        List<Team> created = registerTeams(competition, inserted, unassigned);
+        if (!created.isEmpty()) {
+            notificationService.createNotifications(assignmentNotifications(created));
+        }
+        if (!failures.isEmpty()) {
+            // Not a membership conflict; the teams that did go in stay registered.
+            throw new IllegalStateException("Unable to create " + failures.size() + " of " + teams.size()
+                    + " teams (" + created.size() + " created): " + failures.get(0).getMessage());
+        }
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        logger.info("Formed {} teams for competition {} from {} students in {} ms ({} unassigned)",
+                created.size(), competitionId, pool.size(), elapsedMillis, unassigned.size());
+        return new AutoTeamFormationResponseDTO(
+                studentIds.size(),
+                created.stream().map(TeamMapper::toResponse).toList(),
+                alreadyInTeam,
+                invalid,
+                unassigned,
+                elapsedMillis);
+    }
+
+    private static Team newTeam(String competitionId, String teamName, List<String> members) {
+        Team team = new Team();
+        team.setTeamId("TEAM-" + UUID.randomUUID());
+        team.setTeamName(teamName);
+        team.setCompetitionId(competitionId);
+        team.setLeaderId(members.get(0));
+        team.setInvitedMemberIds(new ArrayList<>());
+        team.setAcceptedMemberIds(new ArrayList<>(members));
+        team.setMemberIds(new ArrayList<>(members));
+        team.setStatus(TeamStatus.ACTIVE);
+        // bulk inserts do not initialise @Version
+        team.setVersion(0L);
+        return team;
+    }
+
+    /**
+     * Unordered bulk insert. Teams rejected by the unique membership index
+     * (a student joined another team meanwhile) are dropped and their
+     * members reported as unassigned. Any other write error is collected in
+     * {@code failures} for the caller to report.
+     */
+    private List<Team> insertTeams(List<Team> teams, List<String> unassigned, List<BulkWriteError> failures) {
+        if (teams.isEmpty()) {
+            return teams;
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Team.class)
+                    .insert(teams)
+                    .execute();
+            return teams;
+        } catch (BulkOperationException ex) {
+            Map<Integer, BulkWriteError> rejected = new HashMap<>();
+            for (BulkWriteError error : ex.getErrors()) {
+                rejected.put(error.getIndex(), error);
+            }
+            List<Team> created = new ArrayList<>(teams.size() - rejected.size());
+            for (int i = 0; i < teams.size(); i++) {
+                BulkWriteError error = rejected.get(i);
+                if (error == null) {
+                    created.add(teams.get(i));
+                } else if (error.getCode() == 11000) {
+                    unassigned.addAll(teams.get(i).getAcceptedMemberIds());
+                } else {
+                    failures.add(error);
+                }
+            }
+            if (!failures.isEmpty()) {
+                logger.error("Inserting formed teams failed for {} of {} teams: {}",
+                        failures.size(), teams.size(), failures.get(0).getMessage());
+            }
+            return created;
+        }
+    }
+
+    /**
+     * Writes one registration per created team. If that insert fails, teams
+     * left without a registration are removed, their seats given back and
+     * their members reported as unassigned, so no ACTIVE team is left
+     * unregistered. Should Mongo still be unreachable for that cleanup, the
+     * request fails and the seat reconciler recounts the seats.
+     */
+    private List<Team> registerTeams(Competition competition, List<Team> teams, List<String> unassigned) {
+        if (teams.isEmpty()) {
+            return teams;
+        }
+        String competitionId = competition.getCompetitionId();
+        List<CompetitionRegistration> registrations = teams.stream()
+                .map(team -> CompetitionRegistrationMapper.newTeam(competitionId, team.getTeamId()))
+                .toList();
+        try {
+            mongoTemplate.insert(registrations, CompetitionRegistration.class);
+            return teams;
+        } catch (RuntimeException ex) {
+            logger.error("Registering {} formed teams for competition {} failed: {}",
+                    teams.size(), competitionId, ex.getMessage());
+        }
+
+        Query registeredQuery = Query.query(Criteria.where("competitionId").is(competitionId)
+                .and("teamId").in(teams.stream().map(Team::getTeamId).toList()));
+        registeredQuery.fields().include("teamId");
+        Set<String> registered = new HashSet<>();
+        for (CompetitionRegistration registration
+                : mongoTemplate.find(registeredQuery, CompetitionRegistration.class)) {
+            registered.add(registration.getTeamId());
+        }
+        List<Team> kept = new ArrayList<>(registered.size());
+        List<String> dropped = new ArrayList<>();
+        for (Team team : teams) {
+            if (registered.contains(team.getTeamId())) {
+                kept.add(team);
+            } else {
+                dropped.add(team.getTeamId());
+                unassigned.addAll(team.getAcceptedMemberIds());
+            }
+        }
+        mongoTemplate.remove(Query.query(Criteria.where("_id").in(dropped)), Team.class);
+        seatAllocator.release(competition, dropped.size());
+        return kept;
+    }
+
+    private static List<Notification> assignmentNotifications(List<Team> teams) {
+        List<Notification> notifications = new ArrayList<>();
+        for (Team team : teams) {
+            for (String memberId : team.getAcceptedMemberIds()) {
+                Notification notification = new Notification();
+                notification.setRecipientId(memberId);
+                notification.setTitle("Team Assigned");
+                notification.setMessage("You have been placed in team '" + team.getTeamName() + "'.");
+                notification.setType(NotificationType.TEAM_CONFIRMATION);
+                notification.setRelatedEntityId(team.getTeamId());
+                notifications.add(notification);
+            }
+        }
+        return notifications;
+    }
+}
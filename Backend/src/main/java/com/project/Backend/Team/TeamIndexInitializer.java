@@ -0,0 +1,133 @@
+package com.project.Backend.Team;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Backfills {@code memberIds} and {@code version} on teams written before
+ * those fields existed, and builds the membership indexes:
+ * <ul>
+ * <li>a unique (competitionId, memberIds) multikey index, so a student can
+ * be in at most one team per competition;</li>
+ * <li>a memberIds index for "all teams of a student" lookups;</li>
+ * <li>a (competitionId, leaderId) index for leader checks.</li>
+ * </ul>
+ * If existing data already has a student in two teams of a competition the
+ * unique build fails with a duplicate key error; a non-unique index is
+ * created instead so lookups stay indexed, and the conflict is logged for an
+ * admin to resolve. Any other failure stops startup.
+ *
+ * Runs once all singletons exist, before the seeders and before the web
+ * server accepts requests: a versioned team saved without a version would
+ * otherwise be inserted and clash on its id.
+ */
+@Component
+@RequiredArgsConstructor
+public class TeamIndexInitializer implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(TeamIndexInitializer.class);
+
+    private static final int BACKFILL_BATCH = 500;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        backfill();
+        ensureIndexes();
+    }
+
+    private void backfill() {
+        backfillMemberIds();
+        mongoTemplate.updateMulti(
+                Query.query(Criteria.where("version").exists(false)),
+                Update.update("version", 0L),
+                Team.class);
+    }
+
+    private void ensureIndexes() {
+        ensureMembershipIndex();
+        ensureIndex(new Index()
+                .named("team_member")
+                .on("memberIds", Sort.Direction.ASC));
+        ensureIndex(new Index()
+                .named("team_competition_leader")
+                .on("competitionId", Sort.Direction.ASC)
+                .on("leaderId", Sort.Direction.ASC));
+    }
+
+    private void backfillMemberIds() {
+        Query missing = Query.query(Criteria.where("memberIds").exists(false));
+        missing.fields().include("leaderId", "acceptedMemberIds");
+        List<Team> batch = new ArrayList<>(BACKFILL_BATCH);
+        int updated = 0;
+        try (Stream<Team> teams = mongoTemplate.stream(missing, Team.class)) {
+            var iterator = teams.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == BACKFILL_BATCH) {
+                    updated += writeMemberIds(batch);
+                    batch.clear();
+                }
+            }
+        }
+        updated += writeMemberIds(batch);
+        if (updated > 0) {
+            logger.info("Backfilled memberIds on {} teams", updated);
+        }
+    }
+
+    private int writeMemberIds(List<Team> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Team.class);
+        for (Team team : batch) {
+            ops.updateOne(
+                    Query.query(Criteria.where("_id").is(team.getTeamId())),
+                    Update.update("memberIds", TeamMembershipListener.membersOf(team)));
+        }
+        ops.execute();
+        return batch.size();
+    }
+
+    private void ensureMembershipIndex() {
+        try {
+            mongoTemplate.indexOps(Team.class).createIndex(new Index()
+                    .named("team_competition_member_unique")
+                    .on("competitionId", Sort.Direction.ASC)
+                    .on("memberIds", Sort.Direction.ASC)
+                    .unique()
+                    .partial(PartialIndexFilter.of(Criteria.where("memberIds").exists(true))));
+        } catch (DuplicateKeyException e) {
+            // E11000 while building: existing data breaks one-team-per-competition
+            logger.error("Students belong to several teams of the same competition; "
+                    + "team membership is not unique-indexed: {}", e.getMessage());
+            ensureIndex(new Index()
+                    .named("team_competition_member")
+                    .on("competitionId", Sort.Direction.ASC)
+                    .on("memberIds", Sort.Direction.ASC));
+        }
+    }
+
+    private void ensureIndex(Index index) {
+        mongoTemplate.indexOps(Team.class).createIndex(index);
+    }
+}
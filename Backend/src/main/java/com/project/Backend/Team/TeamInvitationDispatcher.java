@@ -0,0 +1,231 @@
+package com.project.Backend.Team;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.project.Backend.Metrics.MetricsSource;
+import com.project.Backend.Notification.Notification;
+import com.project.Backend.Notification.NotificationService;
+import com.project.Backend.User.Role;
+import com.project.Backend.User.User;
+
+/**
+ * Sends team invitations off the request thread.
+ *
+ * Requests only enqueue the team. A single worker drains whatever has queued
+ * up, validates every invitee of the drained teams with one query, removes
+ * ids that are not students from the teams' invitations, stores all
+ * notifications with one bulk insert and pushes them to open streams.
+ *
+ * The queue is bounded; when it is full the invitation notifications are
+ * dropped (the invitations themselves are stored on the team) and counted.
+ *
+ * The worker runs with the application context: it is started and stopped
+ * as a lifecycle bean, after the web server on shutdown, and whatever is
+ * still queued when it stops is dispatched before the context closes.
+ */
+@Component
+public class TeamInvitationDispatcher implements MetricsSource, SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(TeamInvitationDispatcher.class);
+
+    private static final int MAX_TEAMS_PER_BATCH = 256;
+    private static final long POLL_MILLIS = 500;
+
+    private record Invitation(String teamId, String teamName, String leaderId, List<String> inviteeIds) {
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final NotificationService notificationService;
+    private final BlockingQueue<Invitation> queue;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder rejectedInvitees = new LongAdder();
+
+    private volatile Thread worker;
+    private volatile boolean running;
+    private volatile boolean stopped;
+
+    public TeamInvitationDispatcher(
+            MongoTemplate mongoTemplate,
+            NotificationService notificationService,
+            @Value("${competition.app.invitationQueueCapacity:10000}") int capacity) {
+        this.mongoTemplate = mongoTemplate;
+        this.notificationService = notificationService;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "team-invitations");
+        worker.start();
+    }
+
+    /**
+     * Stops taking new invitations, lets the worker finish its current batch
+     * and dispatches whatever is still queued on the calling thread.
+     */
+    @Override
+    public void stop() {
+        stopped = true;
+        running = false;
+        Thread current = worker;
+        if (current != null) {
+            try {
+                current.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        drain();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops after the web server, so no request can enqueue once the queue
+     * has been drained.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * Queues the invitation notifications of a saved team. Never blocks.
+     */
+    public void enqueue(Team team) {
+        if (team.getInvitedMemberIds() == null || team.getInvitedMemberIds().isEmpty()) {
+            return;
+        }
+        Invitation invitation = new Invitation(
+                team.getTeamId(),
+                team.getTeamName(),
+                team.getLeaderId(),
+                List.copyOf(team.getInvitedMemberIds()));
+        if (!stopped && queue.offer(invitation)) {
+            enqueued.increment();
+        } else {
+            dropped.increment();
+            logger.warn("Invitation queue full or stopped; notifications for team {} dropped", team.getTeamId());
+        }
+    }
+
+    private void run() {
+        List<Invitation> batch = new ArrayList<>(MAX_TEAMS_PER_BATCH);
+        while (running) {
+            try {
+                Invitation first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_TEAMS_PER_BATCH - 1);
+                dispatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.error("Unable to dispatch {} team invitations: {}", batch.size(), e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void drain() {
+        List<Invitation> batch = new ArrayList<>(MAX_TEAMS_PER_BATCH);
+        while (queue.drainTo(batch, MAX_TEAMS_PER_BATCH) > 0) {
+            try {
+                dispatch(batch);
+            } catch (Exception e) {
+                logger.error("Unable to dispatch {} team invitations: {}", batch.size(), e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void dispatch(List<Invitation> invitations) {
+        Set<String> inviteeIds = new HashSet<>();
+        for (Invitation invitation : invitations) {
+            inviteeIds.addAll(invitation.inviteeIds());
+        }
+
+        Query studentQuery = Query.query(Criteria.where("_id").in(inviteeIds)
+                .and("roles").is(Role.ROLE_STUDENT));
+        studentQuery.fields().include("_id");
+        Set<String> students = new HashSet<>();
+        for (User user : mongoTemplate.find(studentQuery, User.class)) {
+            students.add(user.getId());
+        }
+
+        List<Notification> notifications = new ArrayList<>();
+        Map<String, List<String>> invalidByTeam = new LinkedHashMap<>();
+        for (Invitation invitation : invitations) {
+            for (String inviteeId : new LinkedHashSet<>(invitation.inviteeIds())) {
+                if (students.contains(inviteeId) && !inviteeId.equals(invitation.leaderId())) {
+                    notifications.add(NotificationService.teamInvitation(
+                            inviteeId, invitation.teamName(), invitation.teamId()));
+                } else {
+                    invalidByTeam.computeIfAbsent(invitation.teamId(), id -> new ArrayList<>()).add(inviteeId);
+                }
+            }
+        }
+
+        invalidByTeam.forEach((teamId, invalid) -> {
+            mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("_id").is(teamId)),
+                    new Update().pullAll("invitedMemberIds", invalid.toArray()).inc("version", 1),
+                    Team.class);
+            rejectedInvitees.add(invalid.size());
+        });
+
+        notificationService.createNotifications(notifications);
+        batches.increment();
+        sent.add(notifications.size());
+    }
+
+    @Override
+    public String metricsName() {
+        return "teamInvitations";
+    }
+
+    @Override
+    public Map<String, Object> metrics() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("queued", queue.size());
+        out.put("enqueued", enqueued.sum());
+        out.put("dropped", dropped.sum());
+        out.put("batches", batches.sum());
+        out.put("sent", sent.sum());
+        out.put("rejectedInvitees", rejectedInvitees.sum());
+        return out;
+    }
+}
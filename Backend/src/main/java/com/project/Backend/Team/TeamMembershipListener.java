@@ -0,0 +1,40 @@
+package com.project.Backend.Team;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Derives {@link Team#getMemberIds()} from the leader and the accepted
+ * members before every save, so membership lookups can use the single
+ * multikey field whichever code path wrote the team.
+ */
+@Component
+public class TeamMembershipListener extends AbstractMongoEventListener<Team> {
+
+    @Override
+    public void onBeforeConvert(BeforeConvertEvent<Team> event) {
+        Team team = event.getSource();
+        team.setMemberIds(membersOf(team));
+    }
+
+    static List<String> membersOf(Team team) {
+        Set<String> members = new LinkedHashSet<>();
+        if (team.getLeaderId() != null) {
+            members.add(team.getLeaderId());
+        }
+        if (team.getAcceptedMemberIds() != null) {
+            for (String memberId : team.getAcceptedMemberIds()) {
+                if (memberId != null) {
+                    members.add(memberId);
+                }
+            }
+        }
+        return new ArrayList<>(members);
+    }
+}
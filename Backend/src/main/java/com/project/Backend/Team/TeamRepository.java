@@ -1,19 +1,19 @@
 package com.project.Backend.Team;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 public interface TeamRepository extends MongoRepository<Team, String> {
-    List<Team> findByLeaderIdOrAcceptedMemberIdsContaining(String leaderId, String memberId);
+    // memberIds holds the leader and accepted members (see TeamMembershipListener)
+    List<Team> findByMemberIds(String memberId);
 
-    List<Team> findByCompetitionId(String competitionId);
+    Optional<Team> findFirstByCompetitionIdAndMemberIds(String competitionId, String memberId);
 
-    List<Team> findByCompetitionIdAndAcceptedMemberIdsContaining(String competitionId, String memberId);
+    List<Team> findByCompetitionId(String competitionId);
 
     List<Team> findByCompetitionIdAndLeaderId(String competitionId, String leaderId);
 
-    boolean existsByTeamIdAndLeaderId(String teamId, String leaderId);
-
-    boolean existsByTeamIdAndAcceptedMemberIdsContaining(String teamId, String memberId);
+    boolean existsByTeamIdAndMemberIds(String teamId, String memberId);
 }
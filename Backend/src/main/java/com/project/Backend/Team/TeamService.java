@@ -1,21 +1,41 @@
 package com.project.Backend.Team;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArrayOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 import com.project.Backend.Competition.Competition;
-import com.project.Backend.Competition.CompetitionRepository;
-import com.project.Backend.CompetitionRegistration.CompetitionRegistration;
-import com.project.Backend.CompetitionRegistration.CompetitionRegistrationMapper;
-import com.project.Backend.CompetitionRegistration.CompetitionRegistrationRepository;
-import com.project.Backend.CompetitionRegistration.RegistrationStatus;
+import com.project.Backend.Competition.CompetitionCache;
+import com.project.Backend.Competition.CompetitionPhaseScheduler;
+import com.project.Backend.Competition.ResponseDTO.CompetitionPageResponse;
+import com.project.Backend.CompetitionRegistration.CompetitionRegistrationService;
 import com.project.Backend.Team.RequestDTO.CreateTeamRequestDTO;
 import com.project.Backend.Team.RequestDTO.AcceptTeamInvitationRequestDTO;
+import com.project.Backend.Team.ResponseDTO.TeamListingDTO;
+import com.project.Backend.Team.ResponseDTO.TeamMemberDTO;
 import com.project.Backend.Team.ResponseDTO.TeamResponseDTO;
+import com.project.Backend.User.User;
+import com.project.Backend.User.UserRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -24,8 +44,12 @@ import lombok.RequiredArgsConstructor;
 public class TeamService {
 
     private final TeamRepository teamRepository;
-    private final CompetitionRepository competitionRepository;
-    private final CompetitionRegistrationRepository competitionRegistrationRepository;
+    private final MongoTemplate mongoTemplate;
+    private final UserRepository userRepository;
+    private final CompetitionCache competitionCache;
+    private final CompetitionPhaseScheduler phaseScheduler;
+    private final CompetitionRegistrationService competitionRegistrationService;
+    private final TeamInvitationDispatcher invitationDispatcher;
 
     public List<TeamResponseDTO> listTeamsByCompetition(String competitionId) {
         return teamRepository.findByCompetitionId(competitionId)
@@ -34,8 +58,116 @@ public class TeamService {
                 .toList();
     }
 
+    /**
+     * One page of a competition's teams with member names and avatars. The
+     * page is read with one aggregation (so teams can be ordered by their
+     * member count) and hydrated with one batched user lookup.
+     *
+     * The cursor is the last team id, prefixed with its member count when
+     * sorting by open slots.
+     */
+    public CompetitionPageResponse<TeamListingDTO> listTeamsPage(
+            String competitionId,
+            TeamStatus status,
+            boolean sortByOpenSlots,
+            String cursor,
+            int limit) {
+        Competition competition = competitionCache.findById(competitionId)
+                .orElseThrow(() -> new IllegalArgumentException("Competition not found"));
+
+        Criteria filter = Criteria.where("competitionId").is(competitionId);
+        if (status != null) {
+            filter.and("status").is(status);
+        }
+
+        List<AggregationOperation> stages = new ArrayList<>();
+        stages.add(Aggregation.match(filter));
+        if (sortByOpenSlots) {
+            stages.add(Aggregation.addFields()
+                    .addFieldWithValue("memberCount", ArrayOperators.Size.lengthOfArray(
+                            ConditionalOperators.ifNull("acceptedMemberIds").then(List.of())))
+                    .build());
+        }
+        if (cursor != null && !cursor.isBlank()) {
+            stages.add(Aggregation.match(sortByOpenSlots ? afterCount(cursor) : Criteria.where("_id").gt(cursor)));
+        }
+        stages.add(sortByOpenSlots
+                ? Aggregation.sort(Sort.by(Sort.Direction.ASC, "memberCount").and(Sort.by(Sort.Direction.ASC, "_id")))
+                : Aggregation.sort(Sort.Direction.ASC, "_id"));
+        stages.add(Aggregation.limit(limit + 1L));
+
+        List<Team> teams = new ArrayList<>(mongoTemplate
+                .aggregate(Aggregation.newAggregation(stages), Team.class, Team.class)
+                .getMappedResults());
+        String nextCursor = null;
+        if (teams.size() > limit) {
+            teams = teams.subList(0, limit);
+            Team last = teams.get(limit - 1);
+            nextCursor = sortByOpenSlots
+                    ? memberCount(last) + ":" + last.getTeamId()
+                    : last.getTeamId();
+        }
+
+        Set<String> userIds = new HashSet<>();
+        for (Team team : teams) {
+            userIds.add(team.getLeaderId());
+            if (team.getAcceptedMemberIds() != null) {
+                userIds.addAll(team.getAcceptedMemberIds());
+            }
+        }
+        Map<String, User> users = new HashMap<>();
+        userRepository.findAllById(userIds).forEach(user -> users.put(user.getId(), user));
+
+        Integer maxSize = competition.getMaxTeamSize();
+        List<TeamListingDTO> items = teams.stream()
+                .map(team -> new TeamListingDTO(
+                        team.getTeamId(),
+                        team.getTeamName(),
+                        team.getCompetitionId(),
+                        team.getStatus() != null ? team.getStatus().name() : null,
+                        toMember(team.getLeaderId(), users),
+                        team.getAcceptedMemberIds() == null
+                                ? List.of()
+                                : team.getAcceptedMemberIds().stream().map(id -> toMember(id, users)).toList(),
+                        maxSize != null ? Math.max(0, maxSize - memberCount(team)) : null))
+                .toList();
+        return new CompetitionPageResponse<>(items, nextCursor);
+    }
+
+    private static Criteria afterCount(String cursor) {
+        int separator = cursor.indexOf(':');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        int count;
+        try {
+            count = Integer.parseInt(cursor.substring(0, separator));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        String teamId = cursor.substring(separator + 1);
+        return new Criteria().orOperator(
+                Criteria.where("memberCount").gt(count),
+                Criteria.where("memberCount").is(count).and("_id").gt(teamId));
+    }
+
+    private static int memberCount(Team team) {
+        return team.getAcceptedMemberIds() != null ? team.getAcceptedMemberIds().size() : 0;
+    }
+
+    private static TeamMemberDTO toMember(String userId, Map<String, User> users) {
+        User user = users.get(userId);
+        if (user == null) {
+            return new TeamMemberDTO(userId, null, null);
+        }
+        String displayName = user.getFullName() != null && !user.getFullName().isBlank()
+                ? user.getFullName()
+                : user.getUsername();
+        return new TeamMemberDTO(userId, displayName, user.getAvatarUrl());
+    }
+
     public List<TeamResponseDTO> listTeamsForUser(String studentId) {
-        return teamRepository.findByLeaderIdOrAcceptedMemberIdsContaining(studentId, studentId)
+        return teamRepository.findByMemberIds(studentId)
                 .stream()
                 .map(TeamMapper::toResponse)
                 .toList();
@@ -49,15 +181,14 @@ public class TeamService {
             throw new IllegalArgumentException("competitionId is required");
         }
 
-        Competition competition = competitionRepository.findById(dto.competitionId())
+        Competition competition = competitionCache.findById(dto.competitionId())
                 .orElseThrow(() -> new IllegalArgumentException("Competition not found"));
 
         if (!"TEAM".equalsIgnoreCase(competition.getParticipationType())) {
             throw new IllegalStateException("Team registration is not allowed for this competition");
         }
 
-        if (competition.getRegistrationDeadline() != null
-                && LocalDateTime.now().isAfter(competition.getRegistrationDeadline())) {
+        if (!phaseScheduler.isRegistrationOpen(competition)) {
             throw new IllegalStateException("Registration deadline passed");
         }
 
@@ -89,8 +220,9 @@ public class TeamService {
             team.setStatus(TeamStatus.PENDING);
         }
 
-        Team saved = teamRepository.save(team);
-        ensureTeamRegistrationIfActive(saved);
+        Team saved = saveTeam(team);
+        invitationDispatcher.enqueue(saved);
+        ensureTeamRegistrationIfActive(saved, competition);
         return TeamMapper.toResponse(saved);
     }
 
@@ -106,20 +238,15 @@ public class TeamService {
             return TeamMapper.toResponse(team);
         }
 
-        if (team.getAcceptedMemberIds() == null) {
-            team.setAcceptedMemberIds(new ArrayList<>());
-        }
-
-        if (team.getAcceptedMemberIds().contains(studentId)) {
+        if (team.getAcceptedMemberIds() != null && team.getAcceptedMemberIds().contains(studentId)) {
             return TeamMapper.toResponse(team);
         }
 
-        Competition competition = competitionRepository
+        Competition competition = competitionCache
                 .findById(team.getCompetitionId())
                 .orElseThrow(() -> new IllegalStateException("Competition not found"));
 
-        if (competition.getRegistrationDeadline() != null
-                && LocalDateTime.now().isAfter(competition.getRegistrationDeadline())) {
+        if (!phaseScheduler.isRegistrationOpen(competition)) {
             throw new IllegalStateException("Registration deadline passed");
         }
 
@@ -127,21 +254,8 @@ public class TeamService {
             throw new IllegalStateException("Student is already in another team for this competition");
         }
 
-        int nextAcceptedCount = team.getAcceptedMemberIds().size() + 1;
-
-        if (competition.getMaxTeamSize() != null &&
-                nextAcceptedCount > competition.getMaxTeamSize()) {
-            throw new IllegalStateException("Team exceeds maximum allowed size");
-        }
-
-        team.getAcceptedMemberIds().add(studentId);
-
-        if (competition.getMinTeamSize() != null && nextAcceptedCount >= competition.getMinTeamSize()) {
-            team.setStatus(TeamStatus.ACTIVE);
-        }
-
-        Team saved = teamRepository.save(team);
-        ensureTeamRegistrationIfActive(saved);
+        Team saved = addMember(team.getTeamId(), competition, studentId, false);
+        ensureTeamRegistrationIfActive(saved, competition);
         return TeamMapper.toResponse(saved);
     }
 
@@ -161,26 +275,20 @@ public class TeamService {
         }
 
         // Must be invited
-        if (!team.getInvitedMemberIds().contains(studentId)) {
+        if (team.getInvitedMemberIds() == null || !team.getInvitedMemberIds().contains(studentId)) {
             throw new IllegalStateException("Student was not invited");
         }
 
-        if (team.getAcceptedMemberIds() == null) {
-            team.setAcceptedMemberIds(new ArrayList<>());
-        }
-
         // Already accepted
-        if (team.getAcceptedMemberIds().contains(studentId)) {
+        if (team.getAcceptedMemberIds() != null && team.getAcceptedMemberIds().contains(studentId)) {
             return TeamMapper.toResponse(team);
         }
 
-        // ===== PRE-CHECK SIZE BEFORE MUTATION =====
-        Competition competition = competitionRepository
+        Competition competition = competitionCache
                 .findById(team.getCompetitionId())
                 .orElseThrow(() -> new IllegalStateException("Competition not found"));
 
-        if (competition.getRegistrationDeadline() != null
-                && LocalDateTime.now().isAfter(competition.getRegistrationDeadline())) {
+        if (!phaseScheduler.isRegistrationOpen(competition)) {
             throw new IllegalStateException("Registration deadline passed");
         }
 
@@ -188,53 +296,112 @@ public class TeamService {
             throw new IllegalStateException("Student is already in another team for this competition");
         }
 
-        int nextAcceptedCount = team.getAcceptedMemberIds().size() + 1;
+        Team saved = addMember(team.getTeamId(), competition, studentId, true);
+        ensureTeamRegistrationIfActive(saved, competition);
+        return TeamMapper.toResponse(saved);
+    }
 
-        if (competition.getMaxTeamSize() != null &&
-                nextAcceptedCount > competition.getMaxTeamSize()) {
-            throw new IllegalStateException("Team exceeds maximum allowed size");
+    /**
+     * Adds a member in one conditional findAndModify: the filter only matches
+     * while the student is not yet accepted (and still invited, for
+     * invitations) and the accepted list is below the maximum size, so
+     * concurrent joins can never overfill a team or overwrite each other.
+     * The same pipeline update activates the team once it reaches the
+     * minimum size, so a full team can never be left PENDING.
+     * Callers check for another team of the competition first (one indexed
+     * lookup); the unique memberIds index, when present, also closes the race
+     * between that check and this write.
+     */
+    private Team addMember(String teamId, Competition competition, String studentId, boolean invitationRequired) {
+        Criteria criteria = Criteria.where("_id").is(teamId)
+                .and("acceptedMemberIds").ne(studentId);
+        if (invitationRequired) {
+            criteria.and("invitedMemberIds").is(studentId);
+        }
+        Integer maxSize = competition.getMaxTeamSize();
+        if (maxSize != null) {
+            if (maxSize < 1) {
+                throw new IllegalStateException("Team exceeds maximum allowed size");
+            }
+            // Room left while the element at index maxSize - 1 does not exist
+            criteria.and("acceptedMemberIds." + (maxSize - 1)).exists(false);
         }
 
-        // ===== ACCEPT =====
-        team.getAcceptedMemberIds().add(studentId);
+        // Pipeline update so the activation below sees the new member list.
+        // The filter guarantees the student is not accepted yet.
+        Document student = new Document("$literal", studentId);
+        Document accepted = new Document("$ifNull", List.of("$acceptedMemberIds", List.of()));
+        Document members = new Document("$ifNull", List.of("$memberIds", List.of()));
+        List<AggregationOperation> stages = new ArrayList<>();
+        stages.add(context -> new Document("$set", new Document()
+                .append("acceptedMemberIds", new Document("$concatArrays", List.of(accepted, List.of(student))))
+                .append("memberIds", new Document("$cond", List.of(
+                        new Document("$in", List.of(student, members)),
+                        members,
+                        new Document("$concatArrays", List.of(members, List.of(student))))))
+                .append("version", new Document("$add", List.of(
+                        new Document("$ifNull", List.of("$version", 0L)), 1L)))));
+        // Activate once the minimum is reached, in the same write
+        Integer minSize = competition.getMinTeamSize();
+        if (minSize != null) {
+            stages.add(context -> new Document("$set", new Document("status", new Document("$cond", List.of(
+                    new Document("$gte", List.of(new Document("$size", "$acceptedMemberIds"), minSize)),
+                    TeamStatus.ACTIVE.name(),
+                    "$status")))));
+        }
 
-        // Activate if minimum reached
-        if (competition.getMinTeamSize() != null && nextAcceptedCount >= competition.getMinTeamSize()) {
-            team.setStatus(TeamStatus.ACTIVE);
+        Team updated;
+        try {
+            updated = mongoTemplate.findAndModify(
+                    Query.query(criteria),
+                    AggregationUpdate.from(stages),
+                    FindAndModifyOptions.options().returnNew(true),
+                    Team.class);
+        } catch (DuplicateKeyException ex) {
+            throw new IllegalStateException("Student is already in another team for this competition");
         }
 
-        Team saved = teamRepository.save(team);
-        ensureTeamRegistrationIfActive(saved);
-        return TeamMapper.toResponse(saved);
+        if (updated == null) {
+            // Filter did not match: find out which condition failed
+            Team current = teamRepository.findById(teamId)
+                    .orElseThrow(() -> new IllegalArgumentException("Team not found"));
+            if (current.getAcceptedMemberIds() != null && current.getAcceptedMemberIds().contains(studentId)) {
+                return current;
+            }
+            if (invitationRequired
+                    && (current.getInvitedMemberIds() == null || !current.getInvitedMemberIds().contains(studentId))) {
+                throw new IllegalStateException("Student was not invited");
+            }
+            throw new IllegalStateException("Team exceeds maximum allowed size");
+        }
+        return updated;
     }
 
     private boolean isStudentInAnotherTeamForCompetition(String competitionId, String studentId, String currentTeamId) {
-        List<Team> teams = new ArrayList<>(teamRepository.findByCompetitionIdAndLeaderId(competitionId, studentId));
-        teams.addAll(teamRepository.findByCompetitionIdAndAcceptedMemberIdsContaining(competitionId, studentId));
-        return teams.stream()
+        // At most one team per student per competition (unique memberIds index)
+        return teamRepository.findFirstByCompetitionIdAndMemberIds(competitionId, studentId)
                 .map(Team::getTeamId)
-                .distinct()
-                .anyMatch(teamId -> !teamId.equals(currentTeamId));
+                .filter(teamId -> !teamId.equals(currentTeamId))
+                .isPresent();
     }
 
-    private void ensureTeamRegistrationIfActive(Team team) {
-        if (team.getStatus() != TeamStatus.ACTIVE) {
-            return;
+    private Team saveTeam(Team team) {
+        try {
+            return teamRepository.save(team);
+        } catch (DuplicateKeyException ex) {
+            // A concurrent request put a member into another team of this competition
+            throw new IllegalStateException("Student is already in another team for this competition");
+        } catch (OptimisticLockingFailureException ex) {
+            throw new IllegalStateException("Team was modified concurrently, please retry");
         }
+    }
 
-        boolean alreadyRegistered = competitionRegistrationRepository.existsByCompetitionIdAndTeamIdAndStatus(
-                team.getCompetitionId(),
-                team.getTeamId(),
-                RegistrationStatus.REGISTERED);
-
-        if (alreadyRegistered) {
+    private void ensureTeamRegistrationIfActive(Team team, Competition competition) {
+        if (team.getStatus() != TeamStatus.ACTIVE) {
             return;
         }
 
-        CompetitionRegistration registration = CompetitionRegistrationMapper.newTeam(
-                team.getCompetitionId(),
-                team.getTeamId());
-        competitionRegistrationRepository.save(registration);
+        competitionRegistrationService.ensureTeamRegistered(competition, team.getTeamId());
     }
 
 }
@@ -0,0 +1,17 @@
+package com.project.Backend.User.ReqDTO;
+
+import java.util.Set;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record UserImportRow(
+        @NotBlank @Size(min = 3, max = 20) String username,
+        @NotBlank @Size(max = 50) @Email String email,
+        @NotBlank @Size(min = 6, max = 40) String password,
+        Set<String> roles,
+        @Size(max = 100) String fullName,
+        @Size(max = 100) String department,
+        @Size(max = 20) String phone) {
+}
@@ -0,0 +1,7 @@
+package com.project.Backend.User.ResponseDTO;
+
+public record UserImportRowError(
+        int row,
+        String email,
+        String message) {
+}
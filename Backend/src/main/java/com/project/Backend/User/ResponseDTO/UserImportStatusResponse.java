@@ -0,0 +1,16 @@
+package com.project.Backend.User.ResponseDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record UserImportStatusResponse(
+        String jobId,
+        String status, // QUEUED | RUNNING | COMPLETED | FAILED
+        int totalRows,
+        int processedRows,
+        int createdCount,
+        int failedCount,
+        List<UserImportRowError> errors,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt) {
+}
@@ -3,5 +3,15 @@ package com.project.Backend.User;
 public enum Role {
     ROLE_STUDENT,
     ROLE_TEACHER,
-    ROLE_ADMIN
+    ROLE_ADMIN;
+
+    // Maps the lower-case role names used by signup and import requests.
+    public static Role fromRequestValue(String value) {
+        return switch (value) {
+            case "admin" -> ROLE_ADMIN;
+            case "teacher" -> ROLE_TEACHER;
+            case "student" -> ROLE_STUDENT;
+            default -> ROLE_STUDENT;
+        };
+    }
 }
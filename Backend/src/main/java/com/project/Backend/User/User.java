@@ -45,6 +45,10 @@ public class User {
     @Size(max = 500)
     private String bio;
 
+    // Bumped to invalidate every token issued before a role change or
+    // forced sign-out.
+    private long tokenVersion;
+
     public User() {
     }
 
@@ -133,4 +137,12 @@ public class User {
     public void setBio(String bio) {
         this.bio = bio;
     }
+
+    public long getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public void setTokenVersion(long tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
 }
@@ -0,0 +1,47 @@
+package com.project.Backend.User;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.project.Backend.User.ResponseDTO.MessageResponse;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RequestMapping("/api/admin/users/import")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class UserImportController {
+
+    private final UserImportService importService;
+
+    @PostMapping(consumes = "text/csv")
+    public ResponseEntity<?> importCsv(@RequestBody String body) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(importService.startCsvImport(body));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(new MessageResponse(ex.getMessage()));
+        }
+    }
+
+    @PostMapping(consumes = "application/x-ndjson")
+    public ResponseEntity<?> importNdjson(@RequestBody String body) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(importService.startNdjsonImport(body));
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<?> getStatus(@PathVariable String jobId) {
+        return importService.getStatus(jobId)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,78 @@
+package com.project.Backend.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.project.Backend.User.ResponseDTO.UserImportRowError;
+import com.project.Backend.User.ResponseDTO.UserImportStatusResponse;
+
+/**
+ * Progress of one bulk import. Updated by the import worker and read by
+ * status polls, so every accessor is synchronized.
+ */
+class UserImportJob {
+
+    // Keeps status responses small when a whole file is rejected.
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final String id = UUID.randomUUID().toString();
+    private final int totalRows;
+    private final List<UserImportRowError> errors = new ArrayList<>();
+
+    private String status = "QUEUED";
+    private int processedRows;
+    private int createdCount;
+    private int failedCount;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    UserImportJob(int totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    synchronized boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    synchronized void start() {
+        status = "RUNNING";
+        startedAt = LocalDateTime.now();
+    }
+
+    synchronized void recordCreated(int count) {
+        createdCount += count;
+        processedRows += count;
+    }
+
+    synchronized void recordError(int row, String email, String message) {
+        failedCount++;
+        processedRows++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new UserImportRowError(row, email, message));
+        }
+    }
+
+    synchronized void finish(String finalStatus) {
+        status = finalStatus;
+        finishedAt = LocalDateTime.now();
+    }
+
+    synchronized UserImportStatusResponse snapshot() {
+        return new UserImportStatusResponse(
+                id,
+                status,
+                totalRows,
+                processedRows,
+                createdCount,
+                failedCount,
+                List.copyOf(errors),
+                startedAt,
+                finishedAt);
+    }
+}
@@ -0,0 +1,392 @@
+package com.project.Backend.User;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.bulk.BulkWriteError;
+import com.project.Backend.Auth.security.PasswordHashingBusyException;
+import com.project.Backend.Auth.security.PasswordHashingExecutor;
+import com.project.Backend.User.ReqDTO.UserImportRow;
+import com.project.Backend.User.ResponseDTO.UserImportStatusResponse;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Bulk account onboarding from CSV or NDJSON. Rows are processed in chunks:
+ * one uniqueness query per field per chunk, passwords hashed in parallel on
+ * the shared hashing pool, and one bulk insert per chunk.
+ */
+@Service
+public class UserImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserImportService.class);
+
+    private static final int MAX_RETAINED_JOBS = 50;
+
+    private record ParsedRow(int rowNumber, UserImportRow row, String error) {
+    }
+
+    private final UserRepository userRepository;
+    private final MongoTemplate mongoTemplate;
+    private final PasswordEncoder encoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int hashSliceSize;
+
+    private final Map<String, UserImportJob> jobs = new ConcurrentHashMap<>();
+    // One import at a time so concurrent uploads do not race on uniqueness.
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "user-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public UserImportService(
+            UserRepository userRepository,
+            MongoTemplate mongoTemplate,
+            PasswordEncoder encoder,
+            PasswordHashingExecutor passwordHashingExecutor,
+            Validator validator,
+            ObjectMapper objectMapper,
+            @Value("${competition.app.userImportChunkSize:500}") int chunkSize,
+            @Value("${competition.app.userImportHashSliceSize:16}") int hashSliceSize) {
+        this.userRepository = userRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.encoder = encoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.hashSliceSize = hashSliceSize;
+    }
+
+    public UserImportStatusResponse startCsvImport(String body) {
+        return start(parseCsv(body));
+    }
+
+    public UserImportStatusResponse startNdjsonImport(String body) {
+        return start(parseNdjson(body));
+    }
+
+    public Optional<UserImportStatusResponse> getStatus(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(UserImportJob::snapshot);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        worker.shutdownNow();
+    }
+
+    private UserImportStatusResponse start(List<ParsedRow> rows) {
+        pruneFinishedJobs();
+        UserImportJob job = new UserImportJob(rows.size());
+        jobs.put(job.getId(), job);
+        worker.execute(() -> run(job, rows));
+        return job.snapshot();
+    }
+
+    private void run(UserImportJob job, List<ParsedRow> rows) {
+        job.start();
+        try {
+            for (int from = 0; from < rows.size(); from += chunkSize) {
+                importChunk(job, rows.subList(from, Math.min(rows.size(), from + chunkSize)));
+            }
+            job.finish("COMPLETED");
+        } catch (Exception e) {
+            logger.error("User import {} failed: {}", job.getId(), e.getMessage());
+            job.finish("FAILED");
+        }
+    }
+
+    private void importChunk(UserImportJob job, List<ParsedRow> chunk) throws InterruptedException {
+        List<ParsedRow> valid = new ArrayList<>();
+        for (ParsedRow parsed : chunk) {
+            String error = parsed.error() != null ? parsed.error() : validate(parsed.row());
+            if (error != null) {
+                job.recordError(parsed.rowNumber(), parsed.row() != null ? parsed.row().email() : null, error);
+            } else {
+                valid.add(parsed);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        Set<String> takenUsernames = userRepository
+                .findUsernamesIn(valid.stream().map(p -> p.row().username()).toList())
+                .stream()
+                .map(User::getUsername)
+                .collect(Collectors.toCollection(HashSet::new));
+        Set<String> takenEmails = userRepository
+                .findEmailsIn(valid.stream().map(p -> p.row().email()).toList())
+                .stream()
+                .map(User::getEmail)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        // add() also rejects duplicates within the file itself.
+        List<ParsedRow> accepted = new ArrayList<>();
+        for (ParsedRow parsed : valid) {
+            UserImportRow row = parsed.row();
+            if (!takenUsernames.add(row.username())) {
+                job.recordError(parsed.rowNumber(), row.email(), "Username is already taken");
+            } else if (!takenEmails.add(row.email())) {
+                job.recordError(parsed.rowNumber(), row.email(), "Email is already in use");
+            } else {
+                accepted.add(parsed);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        List<String> hashes = hashAll(accepted.stream().map(p -> p.row().password()).toList());
+        List<User> users = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            users.add(toUser(accepted.get(i).row(), hashes.get(i)));
+        }
+
+        // Unordered, so one bad row neither stops nor replays the others.
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, User.class)
+                    .insert(users)
+                    .execute();
+            job.recordCreated(users.size());
+        } catch (BulkOperationException e) {
+            List<BulkWriteError> errors = e.getErrors();
+            logger.warn("Bulk insert for import {} rejected {} of {} rows", job.getId(), errors.size(), users.size());
+            for (BulkWriteError error : errors) {
+                int index = error.getIndex();
+                job.recordError(
+                        accepted.get(index).rowNumber(),
+                        users.get(index).getEmail(),
+                        insertError(error));
+            }
+            job.recordCreated(users.size() - errors.size());
+        }
+    }
+
+    /**
+     * Rows that passed the batched checks can still collide with a sign-up
+     * or another import; the unique user indexes report those here.
+     */
+    private static String insertError(BulkWriteError error) {
+        if (error.getCode() != 11000) {
+            return "Insert failed";
+        }
+        if (error.getMessage().contains(UserIndexInitializer.USERNAME_INDEX)) {
+            return "Username is already taken";
+        }
+        if (error.getMessage().contains(UserIndexInitializer.EMAIL_INDEX)) {
+            return "Email is already in use";
+        }
+        return "Username or email already exists";
+    }
+
+    /**
+     * Hashes passwords in small slices on the shared hashing pool. At most
+     * half the hashing threads work on an import at any time, so interactive
+     * sign-ins are never queued behind a whole import.
+     */
+    private List<String> hashAll(List<String> passwords) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(Math.max(1, passwordHashingExecutor.getParallelism() / 2));
+        List<CompletableFuture<List<String>>> slices = new ArrayList<>();
+        for (int from = 0; from < passwords.size(); from += hashSliceSize) {
+            List<String> slice = passwords.subList(from, Math.min(passwords.size(), from + hashSliceSize));
+            inFlight.acquire();
+            CompletableFuture<List<String>> future = submitWhenAccepted(
+                    () -> slice.stream().map(encoder::encode).toList());
+            future.whenComplete((result, error) -> inFlight.release());
+            slices.add(future);
+        }
+        List<String> hashes = new ArrayList<>(passwords.size());
+        for (CompletableFuture<List<String>> slice : slices) {
+            hashes.addAll(slice.join());
+        }
+        return hashes;
+    }
+
+    private CompletableFuture<List<String>> submitWhenAccepted(java.util.function.Supplier<List<String>> task)
+            throws InterruptedException {
+        while (true) {
+            try {
+                return passwordHashingExecutor.submit(task);
+            } catch (PasswordHashingBusyException e) {
+                // Sign-in traffic has priority; back off until the queue drains.
+                Thread.sleep(50);
+            }
+        }
+    }
+
+    private String validate(UserImportRow row) {
+        Set<ConstraintViolation<UserImportRow>> violations = validator.validate(row);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private User toUser(UserImportRow row, String passwordHash) {
+        User user = new User(row.username(), row.email(), passwordHash);
+        Set<Role> roles = new HashSet<>();
+        if (row.roles() == null || row.roles().isEmpty()) {
+            roles.add(Role.ROLE_STUDENT);
+        } else {
+            row.roles().forEach(roleStr -> roles.add(Role.fromRequestValue(roleStr)));
+        }
+        user.setRoles(roles);
+        user.setFullName(row.fullName());
+        user.setDepartment(row.department());
+        user.setPhone(row.phone());
+        return user;
+    }
+
+    private void pruneFinishedJobs() {
+        if (jobs.size() < MAX_RETAINED_JOBS) {
+            return;
+        }
+        jobs.values().removeIf(UserImportJob::isFinished);
+    }
+
+    // ================= PARSING =================
+
+    private List<ParsedRow> parseNdjson(String body) {
+        List<ParsedRow> rows = new ArrayList<>();
+        int rowNumber = 0;
+        for (String line : body.split("\r?\n")) {
+            rowNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                UserImportRow row = objectMapper.readValue(line, UserImportRow.class);
+                rows.add(row != null
+                        ? new ParsedRow(rowNumber, row, null)
+                        : new ParsedRow(rowNumber, null, "Row must be a JSON object"));
+            } catch (IOException e) {
+                rows.add(new ParsedRow(rowNumber, null, "Malformed JSON"));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Expects a header row naming the columns: username, email, password and
+     * optionally roles (separated by ';'), fullName, department and phone.
+     */
+    private List<ParsedRow> parseCsv(String body) {
+        List<ParsedRow> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new StringReader(body))) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                return rows;
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            List<String> header = splitCsvLine(headerLine);
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            if (!columns.containsKey("username") || !columns.containsKey("email")
+                    || !columns.containsKey("password")) {
+                throw new IllegalArgumentException("CSV header must contain username, email and password");
+            }
+
+            String line;
+            int rowNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                rowNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                List<String> cells = splitCsvLine(line);
+                String roles = cell(cells, columns, "roles");
+                UserImportRow row = new UserImportRow(
+                        cell(cells, columns, "username"),
+                        cell(cells, columns, "email"),
+                        cell(cells, columns, "password"),
+                        roles == null ? null
+                                : Arrays.stream(roles.split(";"))
+                                        .map(String::trim)
+                                        .filter(r -> !r.isEmpty())
+                                        .collect(Collectors.toCollection(LinkedHashSet::new)),
+                        cell(cells, columns, "fullname"),
+                        cell(cells, columns, "department"),
+                        cell(cells, columns, "phone"));
+                rows.add(new ParsedRow(rowNumber, row, null));
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to read CSV body");
+        }
+        return rows;
+    }
+
+    private static String cell(List<String> cells, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= cells.size()) {
+            return null;
+        }
+        String value = cells.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static List<String> splitCsvLine(String line) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                cells.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        cells.add(current.toString());
+        return cells;
+    }
+}
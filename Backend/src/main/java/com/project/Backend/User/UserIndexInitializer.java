@@ -0,0 +1,71 @@
+package com.project.Backend.User;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Creates the unique username and email indexes. Sign-up and bulk import
+ * only check for taken names in a separate read, so these indexes are what
+ * stops a racing sign-up or a second import from creating the same account.
+ *
+ * Duplicates left by earlier races would make the build fail; those are
+ * removed first, keeping the oldest account.
+ *
+ * Runs once all singletons exist, before the web server accepts requests,
+ * and fails startup if an index cannot be built.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserIndexInitializer implements SmartInitializingSingleton {
+
+    static final String USERNAME_INDEX = "username_unique";
+    static final String EMAIL_INDEX = "email_unique";
+
+    private static final Logger logger = LoggerFactory.getLogger(UserIndexInitializer.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        ensureUnique("username", USERNAME_INDEX);
+        ensureUnique("email", EMAIL_INDEX);
+    }
+
+    private void ensureUnique(String field, String indexName) {
+        try {
+            removeDuplicates(field);
+            mongoTemplate.indexOps(User.class).createIndex(new Index()
+                    .named(indexName)
+                    .on(field, Sort.Direction.ASC)
+                    .unique());
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Unable to create user index " + indexName, e);
+        }
+    }
+
+    private void removeDuplicates(String field) {
+        Aggregation duplicates = Aggregation.newAggregation(
+                Aggregation.sort(Sort.Direction.ASC, "_id"),
+                Aggregation.group(field).push("_id").as("ids").count().as("count"),
+                Aggregation.match(Criteria.where("count").gt(1)));
+        for (Document group : mongoTemplate.aggregate(duplicates, User.class, Document.class)) {
+            List<?> ids = group.getList("ids", Object.class);
+            List<?> extra = ids.subList(1, ids.size());
+            mongoTemplate.remove(Query.query(Criteria.where("_id").in(extra)), User.class);
+            logger.warn("Removed duplicate users {} with the same {} (kept {})", extra, field, ids.get(0));
+        }
+    }
+}
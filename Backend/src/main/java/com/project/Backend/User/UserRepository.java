@@ -2,7 +2,9 @@ package com.project.Backend.User;
 
 import com.project.Backend.User.User;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +18,18 @@ public interface UserRepository extends MongoRepository<User, String> {
     Boolean existsByEmail(String email);
 
     List<User> findByRoles(Role role);
+
+    @Query(value = "{ 'username': { $in: ?0 } }", fields = "{ 'username': 1 }")
+    List<User> findUsernamesIn(Collection<String> usernames);
+
+    @Query(value = "{ 'email': { $in: ?0 } }", fields = "{ 'email': 1 }")
+    List<User> findEmailsIn(Collection<String> emails);
+
+    // Resolves a mixed list of user ids and emails in one round trip.
+    @Query(value = "{ '$or': [ { '_id': { $in: ?0 } }, { 'email': { $in: ?1 } } ] }",
+            fields = "{ 'email': 1, 'roles': 1 }")
+    List<User> findByIdInOrEmailIn(Collection<String> ids, Collection<String> emails);
+
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'tokenVersion': 1 }")
+    Optional<User> findTokenVersionById(String id);
 }
@@ -0,0 +1,35 @@
+package com.project.Backend.User;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.project.Backend.Auth.security.services.TokenVersionService;
+import com.project.Backend.User.ResponseDTO.MessageResponse;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RequestMapping("/api/admin/users")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class UserSessionController {
+
+    private final TokenVersionService tokenVersionService;
+
+    // Invalidates every token the user holds; they must sign in again.
+    @PostMapping("/{userId}/sign-out")
+    public ResponseEntity<?> forceSignOut(@PathVariable String userId) {
+        try {
+            tokenVersionService.bump(userId);
+            return ResponseEntity.ok(new MessageResponse("User signed out of all sessions"));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(new MessageResponse(ex.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.project.Backend.Competition;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CompetitionPhaseSchedulerTests {
+
+    private static final int COMPETITIONS = 1000;
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    private MutableClock clock;
+    private List<CompetitionPhaseChangedEvent> events;
+    private CompetitionPhaseScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        events = new CopyOnWriteArrayList<>();
+        scheduler = new CompetitionPhaseScheduler(clock, null, event -> {
+            if (event instanceof CompetitionPhaseChangedEvent changed) {
+                events.add(changed);
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void thousandDeadlinesFlipInOrderAsTheClockAdvances() {
+        // Registration deadlines one minute apart over ~16h, submissions a day later.
+        List<Competition> competitions = new ArrayList<>();
+        for (int i = 0; i < COMPETITIONS; i++) {
+            LocalDateTime registration = START.plusMinutes(10 + i);
+            competitions.add(competition("C-" + i, registration, registration.plusDays(1)));
+        }
+        competitions.forEach(c -> assertEquals(CompetitionPhase.REGISTRATION_OPEN, scheduler.phase(c)));
+
+        // Halfway through the registration deadlines
+        clock.advance(Duration.ofMinutes(10 + COMPETITIONS / 2));
+        scheduler.processDueBoundaries();
+        assertEquals(COMPETITIONS / 2, events.size());
+        for (int i = 0; i < COMPETITIONS; i++) {
+            CompetitionPhase expected = i < COMPETITIONS / 2
+                    ? CompetitionPhase.SUBMISSION_OPEN
+                    : CompetitionPhase.REGISTRATION_OPEN;
+            assertEquals(expected, scheduler.phase(competitions.get(i)), "competition " + i);
+        }
+
+        // Past the last registration deadline
+        clock.advance(Duration.ofMinutes(COMPETITIONS / 2));
+        scheduler.processDueBoundaries();
+        assertEquals(COMPETITIONS, events.size());
+        competitions.forEach(c -> assertEquals(CompetitionPhase.SUBMISSION_OPEN, scheduler.phase(c)));
+
+        // Past every submission deadline
+        clock.advance(Duration.ofDays(2));
+        scheduler.processDueBoundaries();
+        competitions.forEach(c -> assertEquals(CompetitionPhase.CLOSED, scheduler.phase(c)));
+
+        // Each competition flips exactly twice: open -> submission -> closed.
+        assertEquals(2 * COMPETITIONS, events.size());
+        long toSubmission = events.stream()
+                .filter(e -> e.previousPhase() == CompetitionPhase.REGISTRATION_OPEN
+                        && e.phase() == CompetitionPhase.SUBMISSION_OPEN)
+                .count();
+        long toClosed = events.stream()
+                .filter(e -> e.previousPhase() == CompetitionPhase.SUBMISSION_OPEN
+                        && e.phase() == CompetitionPhase.CLOSED)
+                .count();
+        assertEquals(COMPETITIONS, toSubmission);
+        assertEquals(COMPETITIONS, toClosed);
+    }
+
+    @Test
+    void jumpAcrossBothDeadlinesPublishesOneEvent() {
+        Competition competition = competition("C-jump", START.plusHours(1), START.plusHours(2));
+        assertEquals(CompetitionPhase.REGISTRATION_OPEN, scheduler.phase(competition));
+
+        clock.advance(Duration.ofHours(3));
+        scheduler.processDueBoundaries();
+
+        assertEquals(CompetitionPhase.CLOSED, scheduler.phase(competition));
+        assertEquals(List.of(new CompetitionPhaseChangedEvent(
+                "C-jump", CompetitionPhase.REGISTRATION_OPEN, CompetitionPhase.CLOSED)), events);
+    }
+
+    @Test
+    void readAfterDeadlineFlipsWithoutWaitingForTheTimer() {
+        LocalDateTime deadline = START.plusHours(1);
+        Competition competition = competition("C-inline", deadline, deadline.plusHours(1));
+        assertEquals(CompetitionPhase.REGISTRATION_OPEN, scheduler.phase(competition));
+
+        // The deadline itself is still inside registration.
+        clock.set(deadline.toInstant(ZoneOffset.UTC));
+        assertTrue(scheduler.isRegistrationOpen(competition));
+
+        clock.advance(Duration.ofMillis(1));
+        assertEquals(CompetitionPhase.SUBMISSION_OPEN, scheduler.phase(competition));
+        assertTrue(scheduler.isSubmissionOpen(competition));
+        assertEquals(List.of(new CompetitionPhaseChangedEvent(
+                "C-inline", CompetitionPhase.REGISTRATION_OPEN, CompetitionPhase.SUBMISSION_OPEN)), events);
+    }
+
+    @Test
+    void changedDeadlinesAreRetrackedWithoutAnEvent() {
+        Competition competition = competition("C-moved", START.plusHours(1), START.plusHours(2));
+        assertEquals(CompetitionPhase.REGISTRATION_OPEN, scheduler.phase(competition));
+
+        clock.advance(Duration.ofMinutes(90));
+        competition.setRegistrationDeadline(START.plusHours(3));
+        competition.setSubmissionDeadline(START.plusHours(4));
+        scheduler.onCompetitionChanged(new CompetitionChangedEvent("C-moved"));
+
+        assertEquals(CompetitionPhase.REGISTRATION_OPEN, scheduler.phase(competition));
+        scheduler.processDueBoundaries();
+        assertTrue(events.isEmpty());
+    }
+
+    private static Competition competition(String id, LocalDateTime registration, LocalDateTime submission) {
+        Competition competition = new Competition();
+        competition.setCompetitionId(id);
+        competition.setRegistrationDeadline(registration);
+        competition.setSubmissionDeadline(submission);
+        return competition;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant instant;
+        private final ZoneId zone;
+
+        MutableClock(Instant instant, ZoneId zone) {
+            this.instant = instant;
+            this.zone = zone;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new MutableClock(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
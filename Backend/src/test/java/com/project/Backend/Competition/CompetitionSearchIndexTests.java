@@ -0,0 +1,83 @@
+package com.project.Backend.Competition;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.project.Backend.Competition.ResponseDTO.CompetitionSearchHitDTO;
+
+class CompetitionSearchIndexTests {
+
+    private final Map<String, Competition> stored = new HashMap<>();
+
+    private MongoClient client;
+    private CompetitionSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // The client never connects; reindexing only goes through findById.
+        client = MongoClients.create();
+        MongoTemplate mongoTemplate = new MongoTemplate(client, "search-tests") {
+            @Override
+            public <T> T findById(Object id, Class<T> entityClass) {
+                return entityClass.cast(stored.get(id));
+            }
+        };
+        index = new CompetitionSearchIndex(mongoTemplate);
+
+        add("online", "Online Coding Cup", "QUIZ");
+        add("intro", "Intro Algorithms Challenge", "PROJECT");
+        add("hackathons", "Hackathons Weekly", "QUIZ");
+        add("spring", "Spring Hackathon", "ASSIGNMENT");
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+    }
+
+    @Test
+    void prefixThatIsAStopWordStillMatches() {
+        assertEquals(List.of("online"), ids(index.search("on", 10)));
+        assertEquals(List.of("intro"), ids(index.search("in", 10)));
+    }
+
+    @Test
+    void completeStopWordsAreDropped() {
+        assertEquals(List.of("intro"), ids(index.search("algorithms on ", 10)));
+        assertTrue(index.search("on ", 10).isEmpty());
+    }
+
+    @Test
+    void onlyTheLastWordIsAPrefix() {
+        // "hackathon" is complete here, so "hackathons" no longer matches it.
+        List<String> hits = ids(index.search("hackathon a", 10));
+        assertEquals("spring", hits.get(0));
+        assertTrue(!hits.contains("hackathons"));
+        assertEquals(List.of("hackathons", "spring"), ids(index.search("hackathon", 10)).stream().sorted().toList());
+    }
+
+    private void add(String id, String title, String format) {
+        stored.put(id, Competition.builder()
+                .competitionId(id)
+                .title(title)
+                .format(format)
+                .participationType("TEAM")
+                .build());
+        index.onCompetitionChanged(new CompetitionChangedEvent(id));
+    }
+
+    private static List<String> ids(List<CompetitionSearchHitDTO> hits) {
+        return hits.stream().map(CompetitionSearchHitDTO::competitionId).toList();
+    }
+}
@@ -0,0 +1,48 @@
+package com.project.Backend.Team;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Stand-alone benchmark for {@link TeamFormationPlanner}; not a test, run it
+ * with {@code java} on the test classpath. Plans 10k students across 12
+ * departments with team sizes 3..5 and prints the median of the timed runs.
+ */
+public class TeamFormationPlannerBenchmark {
+
+    private static final int STUDENTS = 10_000;
+    private static final int WARMUP_RUNS = 20;
+    private static final int TIMED_RUNS = 50;
+
+    public static void main(String[] args) {
+        int students = args.length > 0 ? Integer.parseInt(args[0]) : STUDENTS;
+        Random random = new Random(42);
+        List<TeamFormationPlanner.Candidate> candidates = new ArrayList<>(students);
+        for (int i = 0; i < students; i++) {
+            // skewed department sizes, like a real faculty
+            int department = (int) Math.min(11, Math.abs(random.nextGaussian()) * 4);
+            candidates.add(new TeamFormationPlanner.Candidate("U-" + i, "DEPT-" + department));
+        }
+
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            TeamFormationPlanner.plan(candidates, 3, 5);
+        }
+        long[] timings = new long[TIMED_RUNS];
+        TeamFormationPlanner.Plan plan = null;
+        for (int i = 0; i < TIMED_RUNS; i++) {
+            long started = System.nanoTime();
+            plan = TeamFormationPlanner.plan(candidates, 3, 5);
+            timings[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(timings);
+
+        System.out.printf("students=%d teams=%d unassigned=%d median=%.2f ms max=%.2f ms%n",
+                students,
+                plan.teams().size(),
+                plan.unassigned().size(),
+                timings[TIMED_RUNS / 2] / 1e6,
+                timings[TIMED_RUNS - 1] / 1e6);
+    }
+}